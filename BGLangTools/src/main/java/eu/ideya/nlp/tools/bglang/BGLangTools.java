@@ -26,8 +26,31 @@ import eu.ideya.lingua.bg.core.BTBUtils;
 import eu.ideya.lingua.bg.core.BgDictionary;
 import eu.ideya.lingua.bg.core.BgGrammarType;
 import eu.ideya.lingua.bg.core.WordEntry;
+import eu.ideya.nlp.tools.bglang.lem.BGLemmatizer;
+import eu.ideya.nlp.tools.bglang.lem.LemmatizerPipeline;
+import eu.ideya.nlp.tools.bglang.lem.SuffixGuesser;
 
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
 
 
 /**
@@ -36,11 +59,215 @@ import java.util.ArrayList;
 public class BGLangTools {
 	public final static String version = "0.2";
 	
+	/** The built-in mapped dictionary, which is opened on first use. */
+	private static MappedDictionary builtinMappedDictionary = null;
+	
     /**
      * @param args the command line arguments
      */
 	public static void main(String[] args) {
+		String command = args.length > 0 ? args[0] : "";
+		
+		if(command.equals("lemmatize") || command.equals("export-mapped") || command.equals("build")) {
+			try {
+				if(command.equals("lemmatize")) lemmatize(args);
+				else if(command.equals("build")) build(args);
+				else exportMapped(args);
+			} catch(IllegalArgumentException e) {
+				System.err.println(e.getMessage());
+				printUsage();
+				System.exit(2);
+			} catch(Exception e) {
+				e.printStackTrace();
+				System.exit(1);
+			}
+			
+			return;
+		}
+		
+		printUsage();
+	}
+	
+	private static void printUsage() {
+		System.err.println("Usage: BGLangTools lemmatize [-d <dictionary>] [-m <mapped dictionary>] [-t <threads>] [-o <output>] [-g] [<file>...]");
+		System.err.println("       BGLangTools export-mapped <dictionary> <mapped dictionary>");
+		System.err.println("       BGLangTools build [-c <cache dir>] <BG Office dir> <BGLangTools dir>");
+		System.err.println();
+		System.err.println("Lemmatizes UTF-8 text files (or the standard input) and writes");
+		System.err.println("the tokens and their lemmas as tab-separated values.");
+		System.err.println("  -d <dictionary>  the dictionary file (the built-in dictionary by default)");
+		System.err.println("  -m <mapped dictionary>");
+		System.err.println("                   the dictionary exported by export-mapped, which is queried in place");
+		System.err.println("                   instead of loading the dictionary (the built-in one is used instead");
+		System.err.println("                   of the built-in dictionary, if present)");
+		System.err.println("  -t <threads>     the number of lemmatizer threads (the number of processors by default)");
+		System.err.println("  -o <output>      the output file (the standard output by default)");
+		System.err.println("  -g               guess the lemmas of the words, which aren't in the dictionary");
+		System.err.println();
+		System.err.println("Builds res/dict.dat and res/dict.bin in the BGLangTools dir from the BG Office data files.");
+		System.err.println("  -c <cache dir>   the build cache, which keeps the entries of the unchanged data files");
+	}
+	
+	/**
+	 * Lemmatizes plain text with a {@link LemmatizerPipeline}
+	 * according to the specified command line arguments.
+	 */
+	private static void lemmatize(String[] args) throws Exception {
+		String dictFile = null;
+		String mappedFile = null;
+		String outFile = null;
+		boolean guess = false;
+		int threads = Runtime.getRuntime().availableProcessors();
+		ArrayList<Callable<Reader>> inputs = new ArrayList<Callable<Reader>>();
+		
+		for(int i = 1; i < args.length; i++) {
+			String arg = args[i];
+			
+			if(arg.equals("-g")) {
+				guess = true;
+			} else if(arg.equals("-d") || arg.equals("-m") || arg.equals("-t") || arg.equals("-o")) {
+				if(++i == args.length) throw new IllegalArgumentException("Missing value of " + arg);
+				
+				if(arg.equals("-d")) dictFile = args[i];
+				else if(arg.equals("-m")) mappedFile = args[i];
+				else if(arg.equals("-o")) outFile = args[i];
+				else threads = parseThreads(args[i]);
+			} else {
+				File f = new File(arg);
+				if(!f.isFile()) throw new FileNotFoundException(arg);
+				
+				inputs.add(() -> new InputStreamReader(new FileInputStream(f), StandardCharsets.UTF_8));
+			}
+		}
+		
+		if(inputs.isEmpty()) {
+			// the standard input must not be closed by the pipeline
+			inputs.add(() -> new InputStreamReader(System.in, StandardCharsets.UTF_8) {
+				@Override
+				public void close() { }
+			});
+		}
+		
+		BGLemmatizer lem = new BGLemmatizer();
+		BgDictionary dict = null;
+		MappedDictionary mapped = openMappedDictionary(dictFile, mappedFile);
+		
+		if(mapped != null) {
+			// the mapped dictionary is queried in place, so nothing is parsed at startup
+			lem.setFormIndex(mapped);
+			if(guess) lem.setGuesser(SuffixGuesser.build(mapped));
+		} else {
+			dict = loadDictionary(dictFile);
+			lem.setFormIndex(PerfectHashFormIndex.build(dict));
+			lem.setFormFilter(FormFilter.build(dict));
+			if(guess) lem.setGuesser(SuffixGuesser.build(dict));
+		}
+		
+		LemmatizerPipeline pipeline = new LemmatizerPipeline(dict, lem, threads);
+		
+		OutputStream os = outFile == null ? System.out : new FileOutputStream(outFile);
+		Writer out = new BufferedWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8), 1 << 16);
+		
+		long time = System.nanoTime();
+		long tokenCount;
+		
+		try {
+			tokenCount = pipeline.run(inputs, out);
+		} finally {
+			if(outFile == null) out.flush();
+			else out.close();
+		}
+		
+		double seconds = (System.nanoTime() - time) / 1e9;
+		BGLemmatizer.Statistics stat = lem.getStatistics();
+		
+		System.err.printf (
+			"Lemmatized %d tokens in %.2f s (%.0f tokens/s, %d threads)%n",
+			tokenCount, seconds, tokenCount / Math.max(seconds, 1e-9), threads
+		);
+		System.err.println("Not found: " + stat.getMissingCount());
+		System.err.println("Ambiguity count: " + stat.getAmbiguityCount());
+	}
+	
+	/**
+	 * Rebuilds the built-in dictionary
+	 * according to the specified command line arguments.
+	 */
+	private static void build(String[] args) {
+		String cacheDir = null;
+		ArrayList<String> dirs = new ArrayList<String>();
+		
+		for(int i = 1; i < args.length; i++) {
+			if(args[i].equals("-c")) {
+				if(++i == args.length) throw new IllegalArgumentException("Missing value of -c");
+				cacheDir = args[i];
+			} else {
+				dirs.add(args[i]);
+			}
+		}
+		
+		if(dirs.size() != 2) throw new IllegalArgumentException("Invalid number of arguments");
+		
+		updateBuiltinDictionary(dirs.get(0), dirs.get(1), cacheDir);
+	}
+	
+	/**
+	 * Converts a dictionary to a {@link MappedDictionary}
+	 * according to the specified command line arguments.
+	 */
+	private static void exportMapped(String[] args) throws Exception {
+		if(args.length != 3) throw new IllegalArgumentException("Invalid number of arguments");
+		
+		BgDictionary dict = loadDictionary(args[1]);
+		MappedDictionary.export(dict, new File(args[2]));
+	}
+	
+	/**
+	 * Loads the specified dictionary file or
+	 * the built-in dictionary if <code>file</code> is <code>null</code>.
+	 */
+	private static BgDictionary loadDictionary(String file) throws Exception {
+		BgDictionary dict = new BgDictionary();
+		
+		System.err.println("Loading dictionary. Please, wait...");
+		try(InputStream in = file == null ?
+			BGLangTools.class.getResourceAsStream("res/dict.dat") : new FileInputStream(file)
+		) {
+			if(in == null) throw new FileNotFoundException("res/dict.dat");
+			dict.importFromStream(in);
+		}
+		
+		return dict;
+	}
+	
+	/**
+	 * Opens the mapped dictionary used instead of the specified dictionary.
+	 * The mapped dictionary is used if specified, otherwise the built-in
+	 * mapped dictionary is used instead of the built-in dictionary (if present).
+	 * @return The mapped dictionary or <code>null</code> if there is
+	 * no mapped dictionary and the dictionary should be loaded.
+	 */
+	private static MappedDictionary openMappedDictionary(String dictFile, String mappedFile)
+		throws IOException {
+		
+		if(mappedFile != null) return MappedDictionary.open(new File(mappedFile));
+		if(dictFile != null) return null;
+		
+		try {
+			return openBuiltinMappedDictionary();
+		} catch(FileNotFoundException e) {
+			// the built-in dictionary is packaged without a mapped dictionary
+			return null;
+		}
+	}
+	
+	private static int parseThreads(String s) {
+		try {
+			int n = Integer.parseInt(s);
+			if(n > 0) return n;
+		} catch(NumberFormatException e) { }
 		
+		throw new IllegalArgumentException("Invalid number of threads: " + s);
 	}
 	
 	private static void printDuplicates(BgDictionary dict) {
@@ -65,11 +292,46 @@ public class BGLangTools {
 		}
 	}
 	
-	private static void updateBuiltinDictionary(String bgOfficeDir, String bgLangToolsDir) {
+	/**
+	 * Rebuilds the built-in dictionary, processing only the BG Office
+	 * data files, which have changed since the last build.
+	 * @param buildCacheDir The directory of the {@link BuildCache}
+	 * or <code>null</code> to rebuild the dictionary from scratch.
+	 */
+	private static void updateBuiltinDictionary (
+		String bgOfficeDir, String bgLangToolsDir, String buildCacheDir
+	) {
 		BgDictionary dict = new BgDictionary();
-		BgOfficeScanner.getInstance().scan(bgOfficeDir, dict);
+		int parallelism = Runtime.getRuntime().availableProcessors();
+		BuildCache cache = null;
+		
+		if(buildCacheDir != null) {
+			try {
+				cache = new BuildCache(new File(buildCacheDir));
+			} catch(IOException e) {
+				e.printStackTrace();
+			}
+		}
+		
+		BgOfficeScanner.getInstance().scan(bgOfficeDir, dict, parallelism, cache);
+		
+		if(cache != null) {
+			// the entries of the removed data files are no longer needed
+			cache.prune();
+			System.out.println (
+				"Build cache: " + cache.getHitCount() + " unchanged, " +
+				cache.getMissCount() + " rebuilt data files"
+			);
+		}
 		
+		new File(bgLangToolsDir, "res").mkdirs();
 		dict.exportToFile(bgLangToolsDir + "/res/dict.dat");
+		
+		try {
+			MappedDictionary.export(dict, new File(bgLangToolsDir + "/res/dict.bin"));
+		} catch(IOException e) {
+			e.printStackTrace();
+		}
 	}
 	
 	public static void saveBuiltinDictionary() {
@@ -90,4 +352,138 @@ public class BGLangTools {
 		
 		return dict;
 	}
+	
+	/**
+	 * Starts loading the built-in dictionary in a background thread
+	 * and returns immediately.
+	 * @return The loader, which provides the loaded dictionary
+	 * and the progress of the loading.
+	 * @see #loadBuiltinDictionary()
+	 */
+	public static DictionaryLoader loadBuiltinDictionaryAsync() {
+		return new DictionaryLoader(BGLangTools.class.getResource("res/dict.dat"));
+	}
+	
+	/**
+	 * Opens the built-in dictionary as a {@link MappedDictionary}, which is
+	 * queried in place, without loading the whole dictionary in memory.
+	 * If the library is packaged in a JAR file, the dictionary is first
+	 * extracted in a temporary file. The dictionary is opened once and
+	 * shared by all callers, since it is read-only.
+	 * @throws FileNotFoundException if the library is packaged
+	 * without the mapped dictionary (<b>res/dict.bin</b>).
+	 */
+	public static synchronized MappedDictionary openBuiltinMappedDictionary() throws IOException {
+		if(builtinMappedDictionary == null) {
+			builtinMappedDictionary = openBuiltinMappedDictionary0();
+		}
+		
+		return builtinMappedDictionary;
+	}
+	
+	private static MappedDictionary openBuiltinMappedDictionary0() throws IOException {
+		URL url = BGLangTools.class.getResource("res/dict.bin");
+		if(url == null) throw new FileNotFoundException("res/dict.bin");
+		
+		if("file".equals(url.getProtocol())) {
+			try {
+				return MappedDictionary.open(new File(url.toURI()));
+			} catch(URISyntaxException e) {
+				// fall back to extracting the resource
+			}
+		}
+		
+		File f = File.createTempFile("bglangtools-dict", ".bin");
+		f.deleteOnExit();
+		
+		try(InputStream in = url.openStream()) {
+			Files.copy(in, f.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+		
+		return MappedDictionary.open(f);
+	}
+	
+	/**
+	 * Passes all entries of the specified dictionary
+	 * to the specified consumer in ascending order of their IDs.
+	 * The entries are enumerated by lemma through {@link BgDictionary#lemmas()}.
+	 * The word forms of a lemma are added to the dictionary right after
+	 * the lemma (see {@link BgOfficeScanner} and {@link DictWikiModel}),
+	 * so they have the IDs between the ID of their lemma and the ID of the
+	 * next lemma, and the IDs following the last lemma as long as their
+	 * entries belong to it. A missing ID between two lemmas is skipped.
+	 */
+	public static void forEachEntry(BgDictionary dict, Consumer<WordEntry> consumer) {
+		int[] lemmaIds = getLemmaIds(dict);
+		if(lemmaIds.length == 0) return;
+		
+		// the entries before the first lemma, if any, have no lemma
+		for(int id = 0; id < lemmaIds[0]; id++) accept(dict.getWordEntryById(id), consumer);
+		
+		for(int i = 0; i < lemmaIds.length - 1; i++) {
+			for(int id = lemmaIds[i]; id < lemmaIds[i + 1]; id++) {
+				accept(dict.getWordEntryById(id), consumer);
+			}
+		}
+		
+		int lastId = lemmaIds[lemmaIds.length - 1];
+		consumer.accept(dict.getWordEntryById(lastId));
+		
+		for(int id = lastId + 1; ; id++) {
+			WordEntry we = getWordForm(dict, id, lastId);
+			if(we == null) break;
+			consumer.accept(we);
+		}
+	}
+	
+	/**
+	 * Gets the number of entries in the specified dictionary.
+	 * @see #forEachEntry(BgDictionary, Consumer)
+	 */
+	public static int getEntryCount(BgDictionary dict) {
+		int[] count = { 0 };
+		forEachEntry(dict, we -> count[0]++);
+		return count[0];
+	}
+	
+	/**
+	 * Gets the IDs of the lemmas of the specified dictionary in ascending order.
+	 */
+	private static int[] getLemmaIds(BgDictionary dict) {
+		int[] ids = new int[1024];
+		int count = 0;
+		
+		for(WordEntry we : dict.lemmas()) {
+			if(count == ids.length) ids = Arrays.copyOf(ids, 2 * count);
+			ids[count++] = we.id;
+		}
+		
+		ids = Arrays.copyOf(ids, count);
+		Arrays.sort(ids);
+		return ids;
+	}
+	
+	private static void accept(WordEntry we, Consumer<WordEntry> consumer) {
+		if(we != null) consumer.accept(we);
+	}
+	
+	/**
+	 * Gets the word form with the specified ID of the lemma with the
+	 * specified ID, which is the last lemma of the dictionary.
+	 * @return The word form or <code>null</code> if the entry with the
+	 * specified ID doesn't belong to the lemma or there is no such entry
+	 * (the last lemma is followed only by its word forms, so the first
+	 * such ID is the end of the dictionary).
+	 */
+	private static WordEntry getWordForm(BgDictionary dict, int id, int lemmaId) {
+		WordEntry we;
+		
+		try {
+			we = dict.getWordEntryById(id);
+		} catch(IndexOutOfBoundsException e) {
+			return null;
+		}
+		
+		return we != null && we.lemmaId == lemmaId ? we : null;
+	}
 }
@@ -33,7 +33,13 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
 
 /**
  * This class is used to retrieve all lemmas included in the BG Office project
@@ -65,6 +71,41 @@ public class BgOfficeScanner {
 	 * @throws IllegalArgumentException if invalid directory path is provided.
 	 */
 	public void scan(String bgOfficeDir, BgDictionary dict) {
+		scan(bgOfficeDir, dict, 1);
+	}
+	
+	/**
+	 * Scans the BG Office data files using the specified number of threads.
+	 * The data files are read and their lemmas are inflected concurrently,
+	 * but the lemmas and the word forms are added to the dictionary in the
+	 * same order as by {@link #scan(String, BgDictionary)}, so the
+	 * resulting dictionary doesn't depend on the number of threads.
+	 * @param bgOfficeDir The root directory of the BG Office developer
+	 * package.
+	 * @param dict The dictionary in which the lemmas and the automatically
+	 * generated word forms should be added.
+	 * @param parallelism The number of threads to use.
+	 * @throws IllegalArgumentException if invalid directory path is provided.
+	 */
+	public void scan(String bgOfficeDir, BgDictionary dict, int parallelism) {
+		scan(bgOfficeDir, dict, parallelism, null);
+	}
+	
+	/**
+	 * Scans the BG Office data files using the specified number of threads
+	 * and build cache. Only the data files, which have changed since cached,
+	 * are processed. The lemmas and the word forms of the others are taken
+	 * from the cache, so the resulting dictionary is the same as without
+	 * a cache.
+	 * @param bgOfficeDir The root directory of the BG Office developer
+	 * package.
+	 * @param dict The dictionary in which the lemmas and the automatically
+	 * generated word forms should be added.
+	 * @param parallelism The number of threads to use.
+	 * @param cache The build cache or <code>null</code>.
+	 * @throws IllegalArgumentException if invalid directory path is provided.
+	 */
+	public void scan(String bgOfficeDir, BgDictionary dict, int parallelism, BuildCache cache) {
 		File f = new File(bgOfficeDir, "data");
 		
 		if(!f.exists() || !f.isDirectory()) {
@@ -82,8 +123,13 @@ public class BgOfficeScanner {
 		
 		walk(f.getAbsolutePath(), f.list(), dataFiles);
 		
-		for(String s : dataFiles) {
-			addLemmas(s, dict);
+		if(parallelism <= 1 && cache == null) {
+			for(String s : dataFiles) {
+				addLemmas(s, dict);
+			}
+		} else {
+			String dataDir = f.getAbsolutePath();
+			addLemmas(dataFiles, dict, Math.max(1, parallelism), dataDir, cache);
 		}
 		
 		try {
@@ -94,44 +140,150 @@ public class BgOfficeScanner {
 		}
 	}
 	
+	/**
+	 * Adds the lemmas contained in the specified data files to the specified
+	 * dictionary. The data files are processed concurrently and the
+	 * resulting batches are added to the dictionary in the order of the files.
+	 * @param dataDir The data directory, relative to which
+	 * the data files are identified in the cache.
+	 * @param cache The build cache or <code>null</code>.
+	 * @throws IllegalArgumentException if unable to process a data file.
+	 */
+	private void addLemmas (
+		ArrayList<String> dataFiles, BgDictionary dict,
+		int parallelism, String dataDir, BuildCache cache
+	) {
+		ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+		
+		try {
+			ArrayDeque<Future<LemmaBatch>> batches = new ArrayDeque<Future<LemmaBatch>>();
+			int next = 0;
+			
+			while(next < dataFiles.size() || !batches.isEmpty()) {
+				// keep a limited number of batches ahead to bound the memory usage
+				while(next < dataFiles.size() && batches.size() < 2 * parallelism) {
+					final String dataFile = dataFiles.get(next++);
+					batches.add(executor.submit(() -> getLemmaBatch(dataFile, dataDir, cache)));
+				}
+				
+				LemmaBatch.get(batches.poll()).addTo(dict);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+	
 	/**
 	 * Adds the lemmas contained in the specified data file
 	 * to the specified dictionary.
 	 * @throws IllegalArgumentException if unable to process the data file.
 	 */
 	private void addLemmas(String dataFile, BgDictionary dict) {
-		ArrayList<String> lemmas = getLemmas(dataFile);
+		WordFormSink sink = (word, lemmaId, uid) -> dict.addWord(word, uid, lemmaId);
+		BgWordFormGenerator generator = BgWordFormGenerator.getInstance();
 		
-		String file = new File(dataFile).getName();
-		String bgType = file.substring(2, file.length() - 4);
-		GrammaticalLabel l;
-		l = new GrammaticalLabel(bgType);
-		
-		for(String lemma : lemmas) {
-			try {
-				int code = BgGrammarType.getCodeById(l.getUid());
-				if(code >= 90  && code <= 130) continue;
-				if(code >= 142 && code <= 143) continue;
-				
-				WordEntry e = dict.addWord(lemma, l.getUid(), -1);
-				WordEntry[] entries = BgWordFormGenerator.getInstance().generateWordForms(e);
-				if(entries != null) {
-					for(WordEntry we : entries) {
-						dict.addWord(we);
-					}
+		try(Stream<String> lemmas = getLemmas(dataFile)) {
+			int uid = getGrammLabelUid(dataFile);
+			if(!isInflected(uid)) return;
+			
+			lemmas.forEach(lemma -> {
+				try {
+					WordEntry e = dict.addWord(lemma, uid, -1);
+					generator.generateWordForms(e, sink);
+				} catch(Exception e) {
+					e.printStackTrace();
 				}
-			 } catch(Exception e) {
-				e.printStackTrace();
-			 }
+			});
+		} catch(UncheckedIOException e) {
+			e.printStackTrace();
+		}
+	}
+	
+	/**
+	 * Gets the lemmas contained in the specified data file and their
+	 * word forms from the specified cache. If the data file is not cached
+	 * or it has changed, its lemmas are inflected and cached.
+	 * @param cache The build cache or <code>null</code>.
+	 */
+	private LemmaBatch getLemmaBatch(String dataFile, String dataDir, BuildCache cache) {
+		if(cache == null) return getLemmaBatch(dataFile);
+		
+		String source = "bgoffice:" + dataFile.substring(dataDir.length()).replace(File.separatorChar, '/');
+		String fingerprint;
+		
+		try {
+			fingerprint = BuildCache.fingerprint(new File(dataFile));
+		} catch(IOException e) {
+			String err = i18n.getError("BgOfficeScanner.cantReadDataFile", dataFile);
+			throw new IllegalArgumentException(err, e);
 		}
+		
+		LemmaBatch batch = cache.get(source, fingerprint);
+		
+		if(batch == null) {
+			batch = getLemmaBatch(dataFile);
+			cache.put(source, fingerprint, batch);
+		}
+		
+		return batch;
+	}
+	
+	/**
+	 * Reads the lemmas contained in the specified data file and
+	 * generates their word forms.
+	 * @throws IllegalArgumentException if unable to process the data file.
+	 */
+	private LemmaBatch getLemmaBatch(String dataFile) {
+		LemmaBatch batch = new LemmaBatch();
+		BgWordFormGenerator generator = BgWordFormGenerator.getInstance();
+		
+		try(Stream<String> lemmas = getLemmas(dataFile)) {
+			int uid = getGrammLabelUid(dataFile);
+			if(!isInflected(uid)) return batch;
+			
+			lemmas.forEach(lemma -> {
+				batch.addLemma(lemma, uid);
+				generator.generateWordForms(new WordEntry(lemma, -1, uid), batch);
+			});
+		} catch(UncheckedIOException e) {
+			e.printStackTrace();
+		}
+		
+		return batch;
+	}
+	
+	/**
+	 * Gets the grammatical label of the lemmas in the specified data file.
+	 */
+	private static int getGrammLabelUid(String dataFile) {
+		String file = new File(dataFile).getName();
+		String bgType = file.substring(2, file.length() - 4);
+		return new GrammaticalLabel(bgType).getUid();
 	}
 	
 	/**
-	 * Returns the list of lemmas contained in the specified data file.
+	 * Determines whether the word forms of lemmas with the specified
+	 * grammatical label should be generated. The pronouns and the types
+	 * 142 and 143 are loaded from the built-in resources instead.
+	 */
+	private static boolean isInflected(int uid) {
+		int code = BgGrammarType.getCodeById(uid);
+		if(code >= 90  && code <= 130) return false;
+		if(code >= 142 && code <= 143) return false;
+		return true;
+	}
+	
+	/**
+	 * Returns the lemmas contained in the specified data file. The lemmas are
+	 * read lazily, as the returned stream is consumed, so the data file is
+	 * never loaded in memory as a whole. The returned stream should be closed
+	 * (for example with try-with-resources) to close the data file.
+	 * An I/O error while reading the lemmas is reported by
+	 * {@link UncheckedIOException} thrown by the stream operation.
 	 * @param dataFile BG office data file containing a list of lemmas
 	 * @throws IllegalArgumentException if unable to process the data file.
 	 */
-	private ArrayList<String> getLemmas(String dataFile) {
+	public Stream<String> getLemmas(String dataFile) {
 		File f = new File(dataFile);
 		if(!f.exists() || !f.isFile() || !f.canRead()) {
 			String s = f.getAbsolutePath();
@@ -151,8 +303,6 @@ public class BgOfficeScanner {
 			throw new IllegalArgumentException(err, e);
 		}
 		
-		ArrayList<String> lemmas = new ArrayList<String>();
-		
 		boolean valid = false;
 		
 		try {
@@ -165,27 +315,25 @@ public class BgOfficeScanner {
 				
 				line = reader.readLine();
 			}
-			
-			if(!valid) {
-				reader.close();
-				String s = f.getAbsolutePath();
-				String err = i18n.getError("BgOfficeScanner.invalidDataStructure", s);
-				throw new IllegalArgumentException(err);
-			}
-			
-			line = reader.readLine();
-			while(line != null) {
-				lemmas.add(line);
-				line = reader.readLine();
-			}
 		} catch(IOException e) {
 			e.printStackTrace();
-		} finally {
-			try { reader.close(); }
-			catch(Exception e) { e.printStackTrace(); }
+			close(reader);
+			return Stream.empty();
+		}
+		
+		if(!valid) {
+			close(reader);
+			String s = f.getAbsolutePath();
+			String err = i18n.getError("BgOfficeScanner.invalidDataStructure", s);
+			throw new IllegalArgumentException(err);
 		}
 		
-		return lemmas;
+		return reader.lines().onClose(() -> close(reader));
+	}
+	
+	private static void close(BufferedReader reader) {
+		try { reader.close(); }
+		catch(Exception e) { e.printStackTrace(); }
 	}
 	
 	private void walk(String parentPath, String[] files, ArrayList<String> dataFiles) {
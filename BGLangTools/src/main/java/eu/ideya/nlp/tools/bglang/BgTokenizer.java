@@ -0,0 +1,95 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang;
+
+import java.util.Collection;
+
+/**
+ * A simple tokenizer, which splits plain text in words and numbers.
+ * The words may contain hyphens and apostrophes between the letters
+ * (e.g. <code>по-добър</code>) and the numbers may contain decimal
+ * separators between the digits (e.g. <code>3,14</code>). The punctuation
+ * and the other symbols are skipped.
+ */
+public final class BgTokenizer {
+	private BgTokenizer() { }
+	
+	/**
+	 * Splits the specified text in tokens.
+	 * @param text The text to tokenize.
+	 * @param tokens The collection, in which the tokens are added.
+	 * @return The number of added tokens.
+	 */
+	public static int tokenize(CharSequence text, Collection<String> tokens) {
+		int count = 0;
+		int len = text.length();
+		int i = 0;
+		
+		while(i < len) {
+			char c = text.charAt(i);
+			
+			if(!Character.isLetterOrDigit(c)) {
+				i++;
+				continue;
+			}
+			
+			int start = i;
+			boolean number = Character.isDigit(c);
+			i++;
+			
+			while(i < len) {
+				c = text.charAt(i);
+				
+				if(Character.isLetterOrDigit(c)) {
+					if(!Character.isDigit(c)) number = false;
+					i++;
+				} else if(i + 1 < len && isJoiner(c, number, text.charAt(i - 1), text.charAt(i + 1))) {
+					i += 2;
+				} else {
+					break;
+				}
+			}
+			
+			tokens.add(text.subSequence(start, i).toString());
+			count++;
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Determines whether the specified character
+	 * joins the characters before and after it in a single token.
+	 */
+	private static boolean isJoiner(char c, boolean number, char prev, char next) {
+		if(number) {
+			return (c == '.' || c == ',') && Character.isDigit(prev) && Character.isDigit(next);
+		}
+		
+		if(c == '-' || c == '\'' || c == '’') {
+			return Character.isLetter(prev) && Character.isLetter(next);
+		}
+		
+		return false;
+	}
+}
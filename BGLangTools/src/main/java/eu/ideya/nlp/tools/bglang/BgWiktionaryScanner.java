@@ -27,11 +27,19 @@ import eu.ideya.lingua.bg.core.BgGrammarType;
 import info.bliki.wiki.dump.IArticleFilter;
 import info.bliki.wiki.dump.Siteinfo;
 import info.bliki.wiki.dump.WikiArticle;
-import info.bliki.wiki.dump.WikiXMLParser;
 
-import java.io.File;
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
 
 /**
  *
@@ -47,18 +55,61 @@ public class BgWiktionaryScanner {
 	
 	/**
 	 * 
-	 * @param dumpFile The BG Wiktionary dump file to process.
+	 * @param dumpFile The BG Wiktionary dump file to process, which may be
+	 * compressed with gzip or bzip2.
 	 * @param dict The dictionary in which the lemmas and the automatically
 	 * generated word forms should be added.
 	 * @throws IllegalArgumentException if an error occurs.
 	 */
 	public void scan(String dumpFile, BgDictionary dict) throws UnsupportedEncodingException, IOException {
-		IArticleFilter handler = new ArticleFilter(dict);
-		try {
-			WikiXMLParser wxp = new WikiXMLParser(new File(dumpFile), handler);
-			wxp.parse();
+		scan(dumpFile, dict, 1);
+	}
+	
+	/**
+	 * Scans the BG Wiktionary dump file using the specified number of threads.
+	 * The XML dump is parsed in the current thread, while the wiki markup of
+	 * the type pages is parsed and their lemmas are inflected concurrently.
+	 * The lemmas and the word forms are added to the dictionary in the
+	 * same order as by {@link #scan(String, BgDictionary)}, so the resulting
+	 * dictionary doesn't depend on the number of threads.
+	 * @param dumpFile The BG Wiktionary dump file to process, which may be
+	 * compressed with gzip or bzip2 (including multistream bzip2).
+	 * @param dict The dictionary in which the lemmas and the automatically
+	 * generated word forms should be added.
+	 * @param parallelism The number of threads used to process the pages.
+	 * @throws IllegalArgumentException if an error occurs.
+	 */
+	public void scan(String dumpFile, BgDictionary dict, int parallelism) throws UnsupportedEncodingException, IOException {
+		scan(dumpFile, dict, parallelism, null);
+	}
+	
+	/**
+	 * Scans the BG Wiktionary dump file using the specified number of threads
+	 * and build cache. The wiki markup of the type pages, which have changed
+	 * since cached, is parsed and their lemmas are inflected. The lemmas and
+	 * the word forms of the other pages are taken from the cache, so the
+	 * resulting dictionary is the same as without a cache.
+	 * @param dumpFile The BG Wiktionary dump file to process.
+	 * @param dict The dictionary in which the lemmas and the automatically
+	 * generated word forms should be added.
+	 * @param parallelism The number of threads used to process the pages.
+	 * @param cache The build cache or <code>null</code>.
+	 * @throws IllegalArgumentException if an error occurs.
+	 */
+	public void scan (
+		String dumpFile, BgDictionary dict, int parallelism, BuildCache cache
+	) throws UnsupportedEncodingException, IOException {
+		ExecutorService executor = parallelism <= 1 ? null : Executors.newFixedThreadPool(parallelism);
+		ArticleFilter handler = new ArticleFilter(dict, executor, parallelism, cache);
+		
+		try(InputStream in = openDump(dumpFile)) {
+			// only the text of the type pages is read
+			new WikiDumpReader(ArticleFilter.TITLE_PREFIX).read(in, handler::process);
+			handler.flush();
 		} catch(Exception e) {
 			throw new IllegalArgumentException(e);
+		} finally {
+			if(executor != null) executor.shutdownNow();
 		}
 		
 		try {
@@ -68,13 +119,73 @@ public class BgWiktionaryScanner {
 			e.printStackTrace();
 		}
 	}
+	
+	/**
+	 * Opens the specified dump file. The compressed dumps are recognized
+	 * by their content and are decompressed in a separate thread, so that
+	 * the decompression overlaps with the parsing.
+	 */
+	private static InputStream openDump(String dumpFile) throws IOException {
+		InputStream in = new BufferedInputStream(new FileInputStream(dumpFile), 1 << 16);
+		
+		try {
+			in.mark(3);
+			int b1 = in.read(), b2 = in.read(), b3 = in.read();
+			in.reset();
+			
+			if(b1 == 0x1f && b2 == 0x8b) {
+				in = new GZIPInputStream(in, 1 << 16);
+			} else if(b1 == 'B' && b2 == 'Z' && b3 == 'h') {
+				in = new BZip2CompressorInputStream(in, true);
+			} else {
+				return in;
+			}
+		} catch(IOException e) {
+			in.close();
+			throw e;
+		}
+		
+		return new ReadAheadInputStream(in, "BgWiktionaryScanner decompressor");
+	}
 }
 
 class ArticleFilter implements IArticleFilter {
+	/** The title prefix of the pages, which list the words of a grammar type. */
+	final static String TITLE_PREFIX = "Уикиречник:Български/Типове думи/";
+	
 	private BgDictionary bgDictionary;
+	
+	/** Processes the pages concurrently or <code>null</code>. */
+	private final ExecutorService executor;
+	private final int parallelism;
+	private final BuildCache cache;
+	
+	/** The batches of the pages being processed, in the order of the pages. */
+	private final ArrayDeque<Future<LemmaBatch>> batches = new ArrayDeque<Future<LemmaBatch>>();
 
 	public ArticleFilter(BgDictionary dict) {
+		this(dict, null, 1, null);
+	}
+	
+	/**
+	 * @param executor Processes the pages concurrently
+	 * or <code>null</code> to process them in the parser thread.
+	 * @param cache The build cache or <code>null</code>.
+	 */
+	ArticleFilter(BgDictionary dict, ExecutorService executor, int parallelism, BuildCache cache) {
 		bgDictionary = dict;
+		this.executor = executor;
+		this.parallelism = parallelism;
+		this.cache = cache;
+	}
+	
+	/**
+	 * Waits for the pages being processed and adds their words to the dictionary.
+	 */
+	void flush() {
+		while(!batches.isEmpty()) {
+			LemmaBatch.get(batches.poll()).addTo(bgDictionary);
+		}
 	}
 	
 	@Override
@@ -105,9 +216,17 @@ class ArticleFilter implements IArticleFilter {
 			t = wikiModel.popNode();
 			*/
 		
-		String prefix = "Уикиречник:Български/Типове думи/";
-		if(page.getTitle().startsWith(prefix)) {
-			String bgType = page.getTitle().substring(prefix.length());
+		process(page.getTitle(), page.getText());
+	}
+	
+	/**
+	 * Processes a page with the specified title and raw wiki text.
+	 * The text of the pages, whose titles don't start with
+	 * {@link #TITLE_PREFIX}, is not used.
+	 */
+	void process(String title, String text) {
+		if(title.startsWith(TITLE_PREFIX)) {
+			String bgType = title.substring(TITLE_PREFIX.length());
 			
 			if(BgGrammarType.getTypeId(bgType) == -1) {
 				if(bgType.matches("[0-9]{1,3}[a-z]{0,1}/[а-яА-я]$")) {
@@ -127,9 +246,48 @@ class ArticleFilter implements IArticleFilter {
 			char c = BgGrammarType.getSuffixById(t);
 			System.out.println(c == 0 ? "" : " suffix: " + c);*/
 			
-			DictWikiModel wikiModel = new DictWikiModel(bgDictionary, bgType);
-			wikiModel.process(page);
+			if(executor == null && cache == null) {
+				DictWikiModel wikiModel = new DictWikiModel(bgDictionary, bgType);
+				wikiModel.process(title, text);
+				return;
+			}
+			
+			if(executor == null) {
+				getBatch(bgType, title, text).addTo(bgDictionary);
+				return;
+			}
+			
+			// keep a limited number of pages ahead to bound the memory usage
+			while(batches.size() >= 2 * parallelism) {
+				LemmaBatch.get(batches.poll()).addTo(bgDictionary);
+			}
+			
+			final String type = bgType;
+			
+			batches.add(executor.submit(() -> getBatch(type, title, text)));
 		}
 	}
+	
+	/**
+	 * Gets the lemmas of the specified page and their word forms
+	 * from the cache or generates them if the page has changed.
+	 */
+	private LemmaBatch getBatch(String bgType, String title, String text) {
+		String source = "wiktionary:" + title;
+		String fingerprint = null;
+		
+		if(cache != null) {
+			fingerprint = BuildCache.fingerprint(text);
+			LemmaBatch batch = cache.get(source, fingerprint);
+			if(batch != null) return batch;
+		}
+		
+		LemmaBatch batch = new LemmaBatch();
+		new DictWikiModel(batch, bgType).process(title, text);
+		
+		if(cache != null) cache.put(source, fingerprint, batch);
+		
+		return batch;
+	}
 
 }
@@ -0,0 +1,171 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang;
+
+import eu.ideya.lingua.bg.core.BTBUtils;
+
+/**
+ * Encodes BTB tags as <code>long</code> masks, so that tags can be
+ * compared without parsing or creating strings. Each of the first
+ * {@link #POSITION_COUNT} positions of a tag is encoded in 5 bits,
+ * where 0 stands for an unspecified position (<b>-</b> or a position
+ * beyond the end of the tag).
+ * <p>
+ * The matching is one-directional: a tag matches a query if it doesn't
+ * differ from the query in any position, which is specified in the query.
+ * The unspecified positions of the query match any character, but the
+ * unspecified positions of the tag match only the unspecified positions
+ * of the query (for example the query <b>Vpi-f</b> matches the tag
+ * <b>Vpitf</b>, but the query <b>Vpitf</b> doesn't match the tag
+ * <b>Vpi-f</b>). So a query is widened (for example when backing off)
+ * by clearing some of its positions.
+ * <p>
+ * A tag longer than {@link #POSITION_COUNT} characters isn't a valid
+ * BTB tag, so its mask has the {@link #UNMATCHABLE} bit set and matches
+ * no tag, until it is widened by {@link #prefix(long, int)}. Likewise
+ * a character, which can't occur in a BTB tag, matches no tag character.
+ * The masks of the grammatical labels are cached.
+ */
+public final class BtbTagMask {
+	/** The number of tag positions encoded in a mask. */
+	public final static int POSITION_COUNT = 12;
+	
+	private final static int BITS = 5;
+	private final static long FIELD = (1L << BITS) - 1;
+	
+	/**
+	 * The bit, which is set (above the encoded positions) in the mask
+	 * of a tag longer than {@link #POSITION_COUNT} characters.
+	 */
+	public final static long UNMATCHABLE = 1L << (BITS * POSITION_COUNT);
+	
+	/** The lowest bit of each position. */
+	private final static long LOW_BITS;
+	
+	static {
+		long l = 0;
+		for(int i = 0; i < POSITION_COUNT; i++) l |= 1L << (BITS * i);
+		LOW_BITS = l;
+	}
+	
+	private final static IntCache<Long> masks = new IntCache<Long>();
+	
+	private BtbTagMask() { }
+	
+	/**
+	 * Gets the mask of the specified BTB tag.
+	 * @return The mask or 0 (which matches all tags)
+	 * if the tag is <code>null</code>. The mask of a tag longer
+	 * than {@link #POSITION_COUNT} characters matches no tag.
+	 */
+	public static long getMask(CharSequence tag) {
+		if(tag == null) return 0;
+		
+		long mask = 0;
+		int length = Math.min(tag.length(), POSITION_COUNT);
+		
+		for(int i = 0; i < length; i++) {
+			mask |= (long)encode(tag.charAt(i)) << (BITS * i);
+		}
+		
+		if(tag.length() > POSITION_COUNT) mask |= UNMATCHABLE;
+		
+		return mask;
+	}
+	
+	/**
+	 * Gets the mask of the BTB tag of the specified grammatical label.
+	 */
+	public static long getMask(int grammLabelUid) {
+		Long mask = masks.get(grammLabelUid);
+		
+		if(mask == null) {
+			mask = getMask(BTBUtils.getTag(grammLabelUid));
+			masks.put(grammLabelUid, mask);
+		}
+		
+		return mask;
+	}
+	
+	/**
+	 * Determines whether the specified mask matches the specified query,
+	 * i.e. whether it doesn't differ from the query in any position,
+	 * which is specified in the query. A query with the
+	 * {@link #UNMATCHABLE} bit set matches no mask.
+	 */
+	public static boolean matches(long mask, long query) {
+		if((query & UNMATCHABLE) != 0) return false;
+		return ((mask ^ query) & specified(query)) == 0;
+	}
+	
+	/**
+	 * Clears (makes unspecified) the specified position of the mask.
+	 */
+	public static long clear(long mask, int position) {
+		return mask & ~(FIELD << (BITS * position));
+	}
+	
+	/**
+	 * Clears all positions of the mask except the first <code>length</code> ones.
+	 * The {@link #UNMATCHABLE} bit is kept only if no position is cleared.
+	 */
+	public static long prefix(long mask, int length) {
+		if(length >= POSITION_COUNT) return mask;
+		return mask & ((1L << (BITS * length)) - 1);
+	}
+	
+	/**
+	 * Gets the character at the specified position of the mask
+	 * (in lower case, except the first position).
+	 * @return The character or <b>-</b> if the position is unspecified.
+	 */
+	public static char getChar(long mask, int position) {
+		int code = (int)((mask >>> (BITS * position)) & FIELD);
+		if(code == 0) return '-';
+		if(code <= 26) return (char)((position == 0 ? 'A' : 'a') + code - 1);
+		if(code <= 29) return (char)('1' + code - 27);
+		return '?';
+	}
+	
+	/**
+	 * Returns a mask in which all bits of the specified positions are set.
+	 */
+	private static long specified(long mask) {
+		long l = mask | (mask >>> 1) | (mask >>> 2) | (mask >>> 3) | (mask >>> 4);
+		return (l & LOW_BITS) * FIELD;
+	}
+	
+	/**
+	 * Encodes a tag character in 5 bits. The letters are case-insensitive,
+	 * since the first position of a tag is in upper case and
+	 * the rest are in lower case. The other characters are encoded
+	 * as 31, which no character of a BTB tag has.
+	 */
+	private static int encode(char c) {
+		if(c == '-') return 0;
+		if(c >= 'a' && c <= 'z') return c - 'a' + 1;
+		if(c >= 'A' && c <= 'Z') return c - 'A' + 1;
+		if(c >= '1' && c <= '3') return c - '1' + 27;
+		return 31;
+	}
+}
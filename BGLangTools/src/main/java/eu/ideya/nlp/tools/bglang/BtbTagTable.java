@@ -0,0 +1,152 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang;
+
+import eu.ideya.lingua.bg.core.BTBUtils;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the resolution of BTB tags to grammatical labels.
+ * Each tag is registered once and gets an integer ID. The grammatical
+ * label of a given tag for a lemma with a given grammatical label
+ * (the base label) is resolved by {@link BTBUtils#getGrammLabelUid(String, int)}
+ * the first time it is requested and is reused afterwards, so that
+ * the tag strings don't have to be built and parsed for each word form.
+ * This class is thread safe.
+ */
+public final class BtbTagTable {
+	private final static BtbTagTable btbTagTable = new BtbTagTable();
+	
+	/** Marks the grammatical labels, which are not resolved yet. */
+	private final static int UNRESOLVED = Integer.MIN_VALUE;
+	
+	private final ConcurrentHashMap<String, Integer> tagIds =
+		new ConcurrentHashMap<String, Integer>();
+	
+	/** The registered tags, indexed by tag ID. */
+	private volatile String[] tags = new String[0];
+	
+	/** The resolved grammatical labels (indexed by tag ID) for each base label. */
+	private final IntCache<int[]> rows = new IntCache<int[]>();
+	
+	private BtbTagTable() { }
+	
+	public static BtbTagTable getInstance() {
+		return btbTagTable;
+	}
+	
+	/**
+	 * Registers the specified BTB tag (if not already registered).
+	 * @return The ID of the tag.
+	 */
+	public int registerTag(String tag) {
+		Integer id = tagIds.get(tag);
+		if(id != null) return id;
+		
+		synchronized(this) {
+			id = tagIds.get(tag);
+			if(id != null) return id;
+			
+			String[] t = Arrays.copyOf(tags, tags.length + 1);
+			t[tags.length] = tag;
+			tags = t;
+			tagIds.put(tag, tags.length - 1);
+			
+			return tags.length - 1;
+		}
+	}
+	
+	/**
+	 * Gets the ID of the specified BTB tag.
+	 * @return The ID of the tag or -1 if the tag is not registered.
+	 */
+	public int getTagId(String tag) {
+		Integer id = tagIds.get(tag);
+		return id == null ? -1 : id;
+	}
+	
+	/**
+	 * Gets the BTB tag with the specified ID.
+	 * @throws IndexOutOfBoundsException if there is no tag with the specified ID.
+	 */
+	public String getTag(int tagId) {
+		return tags[tagId];
+	}
+	
+	/**
+	 * Gets the number of registered tags.
+	 */
+	public int getTagCount() {
+		return tags.length;
+	}
+	
+	/**
+	 * Gets the grammatical label of the specified BTB tag for a lemma
+	 * with the specified grammatical label.
+	 * @param tagId The ID of a registered tag.
+	 * @param baseUid The grammatical label of the lemma.
+	 * @throws IndexOutOfBoundsException if there is no tag with the specified ID.
+	 */
+	public int getGrammLabelUid(int tagId, int baseUid) {
+		int[] row = rows.get(baseUid);
+		if(row == null || tagId >= row.length) row = createRow(baseUid);
+		
+		int uid = row[tagId];
+		
+		if(uid == UNRESOLVED) {
+			uid = BTBUtils.getGrammLabelUid(tags[tagId], baseUid);
+			row[tagId] = uid;
+		}
+		
+		return uid;
+	}
+	
+	/**
+	 * Gets the grammatical label of the specified BTB tag for a lemma
+	 * with the specified grammatical label. The tag is registered
+	 * if not already registered.
+	 * @param baseUid The grammatical label of the lemma.
+	 */
+	public int getGrammLabelUid(String tag, int baseUid) {
+		return getGrammLabelUid(registerTag(tag), baseUid);
+	}
+	
+	/**
+	 * Creates (or extends with the newly registered tags)
+	 * the row of the specified base label.
+	 */
+	private synchronized int[] createRow(int baseUid) {
+		int[] row = rows.get(baseUid);
+		int count = tags.length;
+		if(row != null && row.length >= count) return row;
+		
+		int[] newRow = new int[count];
+		Arrays.fill(newRow, UNRESOLVED);
+		if(row != null) System.arraycopy(row, 0, newRow, 0, row.length);
+		
+		rows.put(baseUid, newRow);
+		return newRow;
+	}
+}
@@ -0,0 +1,270 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang;
+
+import eu.ideya.lingua.bg.core.BTBUtils;
+import eu.ideya.lingua.bg.core.BgDictionary;
+import eu.ideya.lingua.bg.core.BgGrammarType;
+import eu.ideya.lingua.bg.core.GrammaticalLabel;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the lemmas and the word forms generated from each source (a BG Office
+ * data file or a Wiktionary type page) of the dictionary, along with the
+ * fingerprint (size and SHA-256 hash) of the source, so that only the changed
+ * sources have to be processed when the dictionary is rebuilt.
+ * <p>
+ * Each source is cached in a separate file in the cache directory.
+ * The cached entries are also invalidated when the word form generator
+ * (including the paradigm definitions and the lingua-bg-core classes,
+ * which it depends on) or the version of the library changes. This class is thread safe.
+ */
+public final class BuildCache {
+	/** The first four bytes of a cache file (<b>BGLC</b>). */
+	private final static int MAGIC = 0x42474C43;
+	private final static int FORMAT_VERSION = 1;
+	
+	/** The classes, whose code determines the cached entries. */
+	private final static Class<?>[] GENERATOR_CLASSES = {
+		BgOfficeScanner.class, DictWikiModel.class, BgWordFormGenerator.class,
+		ParadigmRegistry.class, Paradigm.class, ParadigmTable.class, BtbTagTable.class,
+		BTBUtils.class, BgGrammarType.class, GrammaticalLabel.class
+	};
+	
+	private final File dir;
+	
+	/** Identifies the code, which has generated the cached word forms. */
+	private final String generatorFingerprint;
+	
+	/** The cache files used since the cache is opened. */
+	private final Set<String> usedFiles = ConcurrentHashMap.newKeySet();
+	
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	
+	/**
+	 * Opens the build cache in the specified directory,
+	 * which is created if it doesn't exist.
+	 */
+	public BuildCache(File dir) throws IOException {
+		Files.createDirectories(dir.toPath());
+		this.dir = dir;
+		
+		generatorFingerprint = BGLangTools.version + "/" + getGeneratorFingerprint();
+	}
+	
+	/**
+	 * Gets the fingerprint of the code and the data, which determine the
+	 * cached entries: the classes, which read the sources and generate the
+	 * word forms (including the lingua-bg-core classes, which encode the
+	 * grammatical labels, and the version of lingua-bg-core), and the
+	 * paradigm definitions.
+	 */
+	private static String getGeneratorFingerprint() throws IOException {
+		StringBuilder sb = new StringBuilder();
+		
+		String coreVersion = BgDictionary.class.getPackage().getImplementationVersion();
+		sb.append(coreVersion == null ? "" : coreVersion);
+		
+		for(Class<?> c : GENERATOR_CLASSES) {
+			sb.append('/').append(fingerprintResource(c, c.getSimpleName() + ".class"));
+		}
+		
+		sb.append('/').append(fingerprintResource(BGLangTools.class, "res/paradigms.dat"));
+		return fingerprint(sb.toString());
+	}
+	
+	public File getDirectory() {
+		return dir;
+	}
+	
+	/**
+	 * Gets the number of sources, which are found in the cache.
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+	
+	/**
+	 * Gets the number of sources, which are not found
+	 * in the cache or have changed since cached.
+	 */
+	public long getMissCount() {
+		return missCount.sum();
+	}
+	
+	/**
+	 * Gets the fingerprint of the specified file.
+	 */
+	public static String fingerprint(File file) throws IOException {
+		try(InputStream in = new FileInputStream(file)) {
+			return fingerprint(in, file.length());
+		}
+	}
+	
+	/**
+	 * Gets the fingerprint of the specified text.
+	 */
+	public static String fingerprint(String text) {
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+		return bytes.length + ":" + toHex(getDigest().digest(bytes));
+	}
+	
+	/**
+	 * Gets the fingerprint of the specified resource
+	 * or an empty string if the resource doesn't exist.
+	 */
+	private static String fingerprintResource(Class<?> c, String name) throws IOException {
+		try(InputStream in = c.getResourceAsStream(name)) {
+			return in == null ? "" : fingerprint(in, -1);
+		}
+	}
+	
+	private static String fingerprint(InputStream in, long size) throws IOException {
+		MessageDigest md = getDigest();
+		byte[] buf = new byte[65536];
+		long len = 0;
+		int n;
+		
+		while((n = in.read(buf)) != -1) {
+			md.update(buf, 0, n);
+			len += n;
+		}
+		
+		return (size == -1 ? len : size) + ":" + toHex(md.digest());
+	}
+	
+	private static MessageDigest getDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch(NoSuchAlgorithmException e) {
+			// every Java platform is required to support SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	private static String toHex(byte[] bytes) {
+		StringBuilder sb = new StringBuilder(2 * bytes.length);
+		for(byte b : bytes) sb.append(String.format("%02x", b & 0xff));
+		return sb.toString();
+	}
+	
+	/**
+	 * Gets the cached batch of the specified source.
+	 * @param source Identifies the source.
+	 * @param fingerprint The current fingerprint of the source.
+	 * @return The cached batch or <code>null</code> if the source is not
+	 * cached or its fingerprint doesn't match the specified one.
+	 */
+	LemmaBatch get(String source, String fingerprint) {
+		File f = getFile(source);
+		usedFiles.add(f.getName());
+		
+		if(f.isFile()) {
+			try(DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(f), 65536))) {
+				if (
+					in.readInt() == MAGIC && in.readInt() == FORMAT_VERSION &&
+					in.readUTF().equals(generatorFingerprint) &&
+					in.readUTF().equals(source) && in.readUTF().equals(fingerprint)
+				) {
+					LemmaBatch batch = LemmaBatch.readFrom(in);
+					hitCount.increment();
+					return batch;
+				}
+			} catch(IOException e) {
+				// a corrupted entry is regenerated
+				e.printStackTrace();
+			}
+		}
+		
+		missCount.increment();
+		return null;
+	}
+	
+	/**
+	 * Caches the batch generated from the specified source.
+	 * An error while writing the cache is reported, but it's not thrown,
+	 * since the entry will be regenerated on the next build.
+	 */
+	void put(String source, String fingerprint, LemmaBatch batch) {
+		File f = getFile(source);
+		usedFiles.add(f.getName());
+		
+		try {
+			// the entry is replaced atomically, so that it's never seen partially written
+			File tmp = File.createTempFile(f.getName(), ".tmp", dir);
+			
+			try {
+				try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp), 65536))) {
+					out.writeInt(MAGIC);
+					out.writeInt(FORMAT_VERSION);
+					out.writeUTF(generatorFingerprint);
+					out.writeUTF(source);
+					out.writeUTF(fingerprint);
+					batch.writeTo(out);
+				}
+				
+				Files.move(tmp.toPath(), f.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			} finally {
+				tmp.delete();
+			}
+		} catch(IOException e) {
+			e.printStackTrace();
+		}
+	}
+	
+	/**
+	 * Deletes the cached entries, which are not used since the cache is opened
+	 * (e.g. the entries of the sources removed since the last build).
+	 */
+	public void prune() {
+		File[] files = dir.listFiles((d, name) -> name.endsWith(".batch"));
+		if(files == null) return;
+		
+		for(File f : files) {
+			if(!usedFiles.contains(f.getName())) f.delete();
+		}
+	}
+	
+	private File getFile(String source) {
+		byte[] bytes = source.getBytes(StandardCharsets.UTF_8);
+		return new File(dir, toHex(getDigest().digest(bytes)).substring(0, 32) + ".batch");
+	}
+}
@@ -37,8 +37,13 @@ public class DictWikiModel extends WikiModel implements IEventListener {
 	private String currentSection = "";
 	
 	private BgDictionary bgDictionary;
+	private LemmaBatch lemmaBatch = null;
 	private String bgType;
 	
+	private final WordFormSink dictSink = (word, lemmaId, uid) -> {
+		bgDictionary.addWord(word, uid, lemmaId);
+	};
+	
 	/**
 	 * 
 	 * @param dict Provides the BG dictionary, in which the the
@@ -50,14 +55,30 @@ public class DictWikiModel extends WikiModel implements IEventListener {
 		this.bgType = bgType;
 	}
 	
+	/**
+	 * Creates a model, which adds the crawled words in the specified
+	 * batch instead of a dictionary, so that pages can be processed
+	 * concurrently.
+	 */
+	DictWikiModel(LemmaBatch batch, String bgType) {
+		super("${image}", "${title}");
+		lemmaBatch = batch;
+		this.bgType = bgType;
+	}
+	
 	/**
 	 *
 	 */
 	public void process(WikiArticle article) {
+		process(article.getTitle(), article.getText());
+	}
+	
+	/**
+	 * Processes a page with the specified title and raw wiki text.
+	 */
+	public void process(String title, String rawWikiText) {
 		setUp();
-		setPageName(article.getTitle());
-		
-		String rawWikiText = article.getText();
+		setPageName(title);
 		
 		parseEvents(this, rawWikiText);
 	}
@@ -98,13 +119,15 @@ public class DictWikiModel extends WikiModel implements IEventListener {
 		GrammaticalLabel l = new GrammaticalLabel(bgType);
 		 
 		try {
-			WordEntry e = bgDictionary.addWord(lemma, l.getUid(), -1);
-			WordEntry[] entries = BgWordFormGenerator.getInstance().generateWordForms(e);
-			if(entries != null) {
-				for(WordEntry we : entries) {
-					bgDictionary.addWord(we);
-				}
+			if(lemmaBatch != null) {
+				lemmaBatch.addLemma(lemma, l.getUid());
+				WordEntry e = new WordEntry(lemma, -1, l.getUid());
+				BgWordFormGenerator.getInstance().generateWordForms(e, lemmaBatch);
+				return;
 			}
+			
+			WordEntry e = bgDictionary.addWord(lemma, l.getUid(), -1);
+			BgWordFormGenerator.getInstance().generateWordForms(e, dictSink);
 		} catch(Exception e) {
 			e.printStackTrace();
 		}
@@ -0,0 +1,160 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang;
+
+import eu.ideya.lingua.bg.core.BgDictionary;
+
+import java.io.FileNotFoundException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads a dictionary in a background thread. The loaded dictionary is
+ * obtained through {@link #getFuture()}, so the callers can continue
+ * their initialization and wait for the dictionary only when they
+ * need it. The progress of the loading is available while loading.
+ * @see BGLangTools#loadBuiltinDictionaryAsync()
+ */
+public final class DictionaryLoader {
+	private final URL url;
+	private final AtomicLong bytesRead = new AtomicLong();
+	private volatile long size = -1;
+	private final CompletableFuture<BgDictionary> future;
+	
+	/**
+	 * Starts loading the dictionary from the specified URL.
+	 */
+	public DictionaryLoader(URL url) {
+		this.url = url;
+		
+		future = CompletableFuture.supplyAsync(this::load, r -> {
+			Thread t = new Thread(r, "BGLangTools dictionary loader");
+			// the loading doesn't prevent the application from exiting
+			t.setDaemon(true);
+			t.start();
+		});
+	}
+	
+	private BgDictionary load() {
+		try {
+			if(url == null) throw new FileNotFoundException("res/dict.dat");
+			
+			URLConnection conn = url.openConnection();
+			size = conn.getContentLengthLong();
+			
+			BgDictionary dict = new BgDictionary();
+			
+			try(InputStream in = new CountingInputStream(conn.getInputStream())) {
+				dict.importFromStream(in);
+			}
+			
+			return dict;
+		} catch(Exception e) {
+			throw new CompletionException(e);
+		}
+	}
+	
+	/**
+	 * Gets the future, which is completed with the loaded dictionary
+	 * or with the exception thrown while loading.
+	 */
+	public CompletableFuture<BgDictionary> getFuture() {
+		return future;
+	}
+	
+	/**
+	 * Determines whether the loading is finished (successfully or not).
+	 */
+	public boolean isDone() {
+		return future.isDone();
+	}
+	
+	/**
+	 * Gets the number of bytes read so far.
+	 */
+	public long getBytesRead() {
+		return bytesRead.get();
+	}
+	
+	/**
+	 * Gets the size of the dictionary data in bytes or -1 if unknown.
+	 */
+	public long getSize() {
+		return size;
+	}
+	
+	/**
+	 * Gets the progress of the loading.
+	 * @return A value between 0 and 1 or -1 if the size
+	 * of the dictionary data is unknown.
+	 */
+	public double getProgress() {
+		if(future.isDone()) return 1;
+		
+		long n = size;
+		if(n <= 0) return -1;
+		
+		return Math.min(1, (double)bytesRead.get() / n);
+	}
+	
+	/**
+	 * Counts the bytes read from the dictionary data.
+	 */
+	private class CountingInputStream extends FilterInputStream {
+		CountingInputStream(InputStream in) {
+			super(in);
+		}
+		
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if(b != -1) bytesRead.incrementAndGet();
+			return b;
+		}
+		
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int n = super.read(b, off, len);
+			if(n > 0) bytesRead.addAndGet(n);
+			return n;
+		}
+		
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(n);
+			if(skipped > 0) bytesRead.addAndGet(skipped);
+			return skipped;
+		}
+		
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,510 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang;
+
+import eu.ideya.lingua.bg.core.BgDictionary;
+import eu.ideya.lingua.bg.core.WordEntry;
+import static eu.ideya.nlp.tools.bglang.I18n.i18n;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A minimal acyclic automaton, which maps each word form of a dictionary
+ * to its lemmas and grammatical labels. The automaton accepts a sequence
+ * for each entry of the dictionary: the word form, a separator, the lemma
+ * encoded as the number of characters to remove from the end of the form
+ * followed by the characters to append, a separator and the grammatical
+ * labels of the form and of the lemma. Since the lemmas are encoded
+ * relative to the forms, the forms of the lemmas with the same inflection
+ * share their endings in the automaton, so the whole inflected lexicon
+ * takes a few megabytes.
+ * <p>
+ * The automaton is stored in a byte buffer, which consists of a header,
+ * the index of the first arc of each state, the target states and the
+ * labels of the arcs (the arcs of each state are sorted by label).
+ * Use {@link #write(File)} to save the automaton and {@link #open(File)}
+ * to map it in memory without parsing it.
+ * <p>
+ * The entries returned by {@link #findExactMatches(CharSequence)} are
+ * created on each lookup and aren't the entries of the dictionary: their IDs
+ * are unknown and the lemma ID of the forms, which aren't lemmas,
+ * is {@link #UNKNOWN_ID}. Use {@link #getLemmaEntry(BgDictionary, List, int)}
+ * to get their lemmas. The entries of a form are ordered by lemma and
+ * grammatical label and duplicate entries are found only once.
+ * This class is thread safe.
+ */
+public final class FormAutomaton implements FormIndex {
+	/** The lemma ID of the found entries, which aren't lemmas. */
+	public final static int UNKNOWN_ID = Integer.MIN_VALUE;
+	
+	/** The first four bytes of an automaton file (<b>BGLA</b>). */
+	private final static int MAGIC = 0x42474C41;
+	private final static int FORMAT_VERSION = 1;
+	
+	private final static int HEADER_SIZE = 24;
+	
+	private final static char SEPARATOR = '\0';
+	
+	/** The number of characters after the second separator (two labels). */
+	private final static int LABELS_LENGTH = 4;
+	
+	private final ByteBuffer buf;
+	
+	private final int formCount;
+	private final int entryCount;
+	private final int stateCount;
+	private final int arcCount;
+	
+	/** The index of the first arc of each state. */
+	private final IntBuffer firstArcs;
+	
+	private final IntBuffer targets;
+	private final CharBuffer labels;
+	
+	private FormAutomaton(ByteBuffer buf, String file) {
+		if(buf.capacity() < HEADER_SIZE || buf.getInt(0) != MAGIC || buf.getInt(4) != FORMAT_VERSION) {
+			String err = i18n.getError("FormAutomaton.invalidFile", file);
+			throw new IllegalArgumentException(err);
+		}
+		
+		this.buf = buf;
+		formCount = buf.getInt(8);
+		entryCount = buf.getInt(12);
+		stateCount = buf.getInt(16);
+		arcCount = buf.getInt(20);
+		
+		if(getSize(stateCount, arcCount) != buf.capacity()) {
+			String err = i18n.getError("FormAutomaton.invalidFile", file);
+			throw new IllegalArgumentException(err);
+		}
+		
+		int pos = HEADER_SIZE;
+		firstArcs = slice(buf, pos, 4 * (stateCount + 1)).asIntBuffer();
+		pos += 4 * (stateCount + 1);
+		targets = slice(buf, pos, 4 * arcCount).asIntBuffer();
+		pos += 4 * arcCount;
+		labels = slice(buf, pos, 2 * arcCount).asCharBuffer();
+	}
+	
+	private static ByteBuffer slice(ByteBuffer buf, int pos, int length) {
+		ByteBuffer b = buf.duplicate();
+		b.position(pos).limit(pos + length);
+		return b.slice();
+	}
+	
+	private static long getSize(int stateCount, int arcCount) {
+		return HEADER_SIZE + 4L * (stateCount + 1) + 6L * arcCount;
+	}
+	
+	/**
+	 * Builds an automaton of all entries of the specified dictionary.
+	 */
+	public static FormAutomaton build(BgDictionary dict) {
+		ArrayList<String> list = new ArrayList<String>();
+		BGLangTools.forEachEntry(dict, we -> {
+			WordEntry lemma = we.lemmaId == -1 ? we : dict.getWordEntryById(we.lemmaId);
+			if(lemma != null) list.add(encode(we, lemma));
+		});
+		
+		String[] a = list.toArray(new String[list.size()]);
+		Arrays.sort(a);
+		
+		Builder builder = new Builder();
+		int formCount = 0;
+		int entryCount = 0;
+		
+		for(int i = 0; i < a.length; i++) {
+			if(i > 0 && a[i].equals(a[i - 1])) continue;
+			
+			if(i == 0 || !getForm(a[i]).equals(getForm(a[i - 1]))) formCount++;
+			builder.add(a[i]);
+			entryCount++;
+		}
+		
+		return new FormAutomaton(builder.toByteBuffer(formCount, entryCount), null);
+	}
+	
+	/**
+	 * Encodes the specified entry as a sequence accepted by the automaton.
+	 */
+	private static String encode(WordEntry we, WordEntry lemma) {
+		String form = we.word;
+		int prefix = 0;
+		int max = Math.min(form.length(), lemma.word.length());
+		while(prefix < max && form.charAt(prefix) == lemma.word.charAt(prefix)) prefix++;
+		
+		StringBuilder sb = new StringBuilder(form.length() + lemma.word.length() + 8);
+		sb.append(form).append(SEPARATOR);
+		sb.append((char)(form.length() - prefix));
+		sb.append(lemma.word, prefix, lemma.word.length()).append(SEPARATOR);
+		appendInt(sb, we.grammLabelUid);
+		appendInt(sb, lemma.grammLabelUid);
+		
+		return sb.toString();
+	}
+	
+	private static void appendInt(StringBuilder sb, int i) {
+		sb.append((char)(i >>> 16)).append((char)i);
+	}
+	
+	private static String getForm(String sequence) {
+		return sequence.substring(0, sequence.indexOf(SEPARATOR));
+	}
+	
+	/**
+	 * Maps the specified automaton file in memory.
+	 * @throws IOException if an I/O error occurs.
+	 * @throws IllegalArgumentException if the file is not a valid automaton file.
+	 */
+	public static FormAutomaton open(File file) throws IOException {
+		try(FileChannel ch = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+			return new FormAutomaton(buf, file.getAbsolutePath());
+		}
+	}
+	
+	/**
+	 * Saves this automaton in the specified file.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public void write(File file) throws IOException {
+		try(FileChannel ch = FileChannel.open (
+			file.toPath(), StandardOpenOption.CREATE,
+			StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING
+		)) {
+			ByteBuffer b = buf.duplicate();
+			b.clear();
+			while(b.hasRemaining()) ch.write(b);
+		}
+	}
+	
+	@Override
+	public int getFormCount() {
+		return formCount;
+	}
+	
+	/**
+	 * Gets the number of distinct entries in this automaton.
+	 */
+	public int getEntryCount() {
+		return entryCount;
+	}
+	
+	/**
+	 * Gets the number of states of this automaton.
+	 */
+	public int getStateCount() {
+		return stateCount;
+	}
+	
+	/**
+	 * Gets the number of arcs of this automaton.
+	 */
+	public int getArcCount() {
+		return arcCount;
+	}
+	
+	/**
+	 * Gets the size of this automaton in bytes.
+	 */
+	public int getSize() {
+		return buf.capacity();
+	}
+	
+	@Override
+	public List<WordEntry> findExactMatches(CharSequence form) {
+		int state = 0;
+		for(int i = 0; i < form.length() && state != -1; i++) {
+			state = getTarget(state, form.charAt(i));
+		}
+		
+		if(state != -1) state = getTarget(state, SEPARATOR);
+		if(state == -1) return Collections.emptyList();
+		
+		EntryList list = new EntryList(form.toString());
+		collect(state, new StringBuilder(), list);
+		return list;
+	}
+	
+	@Override
+	public WordEntry getLemmaEntry(BgDictionary dict, List<WordEntry> entries, int index) {
+		if(entries instanceof EntryList) return ((EntryList)entries).lemmas.get(index);
+		return FormIndex.super.getLemmaEntry(dict, entries, index);
+	}
+	
+	/**
+	 * Gets the target of the arc of the specified state, which
+	 * is labeled with the specified character.
+	 * @return The target state or -1 if there is no such arc.
+	 */
+	private int getTarget(int state, char c) {
+		int low = firstArcs.get(state);
+		int high = firstArcs.get(state + 1) - 1;
+		
+		while(low <= high) {
+			int mid = (low + high) >>> 1;
+			char label = labels.get(mid);
+			
+			if(label < c) low = mid + 1;
+			else if(label > c) high = mid - 1;
+			else return targets.get(mid);
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Adds the entries, which are encoded in the sequences accepted
+	 * from the specified state, to the specified list.
+	 * @param tail The characters read after the first separator.
+	 */
+	private void collect(int state, StringBuilder tail, EntryList list) {
+		int first = firstArcs.get(state);
+		int last = firstArcs.get(state + 1);
+		
+		if(first == last) {
+			list.add(tail);
+			return;
+		}
+		
+		for(int i = first; i < last; i++) {
+			tail.append(labels.get(i));
+			collect(targets.get(i), tail, list);
+			tail.setLength(tail.length() - 1);
+		}
+	}
+	
+	/**
+	 * The entries of a word form and their lemmas.
+	 */
+	private final static class EntryList extends AbstractList<WordEntry> implements RandomAccess {
+		private final String form;
+		private final ArrayList<WordEntry> entries = new ArrayList<WordEntry>(2);
+		private final ArrayList<WordEntry> lemmas = new ArrayList<WordEntry>(2);
+		
+		EntryList(String form) {
+			this.form = form;
+		}
+		
+		/**
+		 * Decodes the specified characters read after the first separator.
+		 */
+		void add(CharSequence tail) {
+			int n = tail.length();
+			int strip = tail.charAt(0);
+			int uid = tail.charAt(n - 4) << 16 | tail.charAt(n - 3);
+			int lemmaUid = tail.charAt(n - 2) << 16 | tail.charAt(n - 1);
+			
+			if(strip == 0 && n == LABELS_LENGTH + 2 && uid == lemmaUid) {
+				WordEntry we = new WordEntry(form, -1, uid);
+				entries.add(we);
+				lemmas.add(we);
+				return;
+			}
+			
+			StringBuilder sb = new StringBuilder(form.length() - strip + n);
+			sb.append(form, 0, form.length() - strip);
+			sb.append(tail, 1, n - LABELS_LENGTH - 1);
+			
+			entries.add(new WordEntry(form, UNKNOWN_ID, uid));
+			lemmas.add(new WordEntry(sb.toString(), -1, lemmaUid));
+		}
+		
+		@Override
+		public WordEntry get(int index) {
+			return entries.get(index);
+		}
+		
+		@Override
+		public int size() {
+			return entries.size();
+		}
+	}
+	
+	/**
+	 * Builds a minimal automaton from sorted sequences with the incremental
+	 * algorithm of Daciuk et al. The states of the last added sequence,
+	 * which aren't shared with the next one, are replaced by an equivalent
+	 * registered state or registered themselves.
+	 */
+	private final static class Builder {
+		private final HashMap<State, State> register = new HashMap<State, State>();
+		private final State root = new State();
+		private String previous = "";
+		
+		/**
+		 * Adds the specified sequence, which should be greater than the previous one.
+		 */
+		void add(String s) {
+			int prefix = 0;
+			State state = root;
+			
+			while (
+				prefix < s.length() && prefix < previous.length() &&
+				s.charAt(prefix) == previous.charAt(prefix)
+			) {
+				state = state.targets[state.count - 1];
+				prefix++;
+			}
+			
+			if(state.count > 0) replaceOrRegister(state);
+			
+			for(int i = prefix; i < s.length(); i++) {
+				State next = new State();
+				state.addArc(s.charAt(i), next);
+				state = next;
+			}
+			
+			previous = s;
+		}
+		
+		private void replaceOrRegister(State state) {
+			State child = state.targets[state.count - 1];
+			if(child.count > 0) replaceOrRegister(child);
+			
+			child.hash = child.computeHash();
+			State s = register.putIfAbsent(child, child);
+			if(s != null) state.targets[state.count - 1] = s;
+		}
+		
+		ByteBuffer toByteBuffer(int formCount, int entryCount) {
+			if(root.count > 0) replaceOrRegister(root);
+			
+			// numbers the states in breadth-first order
+			ArrayList<State> states = new ArrayList<State>(register.size() + 1);
+			root.number = 0;
+			states.add(root);
+			int arcCount = 0;
+			
+			for(int i = 0; i < states.size(); i++) {
+				State state = states.get(i);
+				arcCount += state.count;
+				
+				for(int j = 0; j < state.count; j++) {
+					State target = state.targets[j];
+					if(target.number != -1) continue;
+					
+					target.number = states.size();
+					states.add(target);
+				}
+			}
+			
+			long size = getSize(states.size(), arcCount);
+			if(size > Integer.MAX_VALUE) throw new IllegalStateException("Too many arcs: " + arcCount);
+			
+			ByteBuffer buf = ByteBuffer.allocate((int)size);
+			buf.putInt(MAGIC).putInt(FORMAT_VERSION);
+			buf.putInt(formCount).putInt(entryCount);
+			buf.putInt(states.size()).putInt(arcCount);
+			
+			int arc = 0;
+			for(State state : states) {
+				buf.putInt(arc);
+				arc += state.count;
+			}
+			buf.putInt(arc);
+			
+			for(State state : states) {
+				for(int j = 0; j < state.count; j++) buf.putInt(state.targets[j].number);
+			}
+			
+			for(State state : states) {
+				for(int j = 0; j < state.count; j++) buf.putChar(state.labels[j]);
+			}
+			
+			buf.clear();
+			return buf;
+		}
+	}
+	
+	/**
+	 * A state of an automaton under construction. Two registered states
+	 * are equal if they have the same arcs (the same labels and targets),
+	 * since their targets are already replaced by the registered ones.
+	 */
+	private final static class State {
+		private final static char[] NO_LABELS = new char[0];
+		private final static State[] NO_TARGETS = new State[0];
+		
+		char[] labels = NO_LABELS;
+		State[] targets = NO_TARGETS;
+		int count = 0;
+		int hash;
+		int number = -1;
+		
+		void addArc(char label, State target) {
+			if(count == labels.length) {
+				int capacity = Math.max(2, count * 2);
+				labels = Arrays.copyOf(labels, capacity);
+				targets = Arrays.copyOf(targets, capacity);
+			}
+			
+			labels[count] = label;
+			targets[count] = target;
+			count++;
+		}
+		
+		int computeHash() {
+			int h = count;
+			for(int i = 0; i < count; i++) {
+				h = 31 * h + labels[i];
+				h = 31 * h + System.identityHashCode(targets[i]);
+			}
+			
+			return h;
+		}
+		
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+		
+		@Override
+		public boolean equals(Object o) {
+			if(!(o instanceof State)) return false;
+			
+			State s = (State)o;
+			if(s.count != count || s.hash != hash) return false;
+			
+			for(int i = 0; i < count; i++) {
+				if(s.labels[i] != labels[i] || s.targets[i] != targets[i]) return false;
+			}
+			
+			return true;
+		}
+	}
+}
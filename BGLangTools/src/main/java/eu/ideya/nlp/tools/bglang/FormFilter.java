@@ -0,0 +1,151 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang;
+
+import eu.ideya.lingua.bg.core.BgDictionary;
+
+/**
+ * A Bloom filter of the word forms of a dictionary, which rejects most of
+ * the words not in the dictionary without looking them up. The words are
+ * compared ignoring case, so a word is rejected only if neither it, nor its
+ * lower case version is in the dictionary. The filter is blocked: all bits
+ * of a word are in the same 512-bit block, so a test reads a single cache
+ * line. With the default of 10 bits per entry of the dictionary, at most
+ * about 1% of the missing words aren't rejected. This class is thread safe.
+ */
+public final class FormFilter {
+	/** The number of bits per form used by {@link #build(BgDictionary)}. */
+	public final static int DEFAULT_BITS_PER_FORM = 10;
+	
+	/** The number of longs in a block (a cache line). */
+	private final static int BLOCK_SIZE = 8;
+	
+	/** The maximum number of bits per word (9 bits of the hash are used for each bit). */
+	private final static int MAX_HASH_COUNT = 7;
+	
+	private final long[] bits;
+	private final int blockCount;
+	private final int hashCount;
+	
+	private FormFilter(int blockCount, int hashCount) {
+		this.bits = new long[blockCount * BLOCK_SIZE];
+		this.blockCount = blockCount;
+		this.hashCount = hashCount;
+	}
+	
+	/**
+	 * Builds a filter of all word forms of the specified dictionary
+	 * with {@link #DEFAULT_BITS_PER_FORM} bits per form.
+	 */
+	public static FormFilter build(BgDictionary dict) {
+		return build(dict, DEFAULT_BITS_PER_FORM);
+	}
+	
+	/**
+	 * Builds a filter of all word forms of the specified dictionary.
+	 * @param bitsPerForm The size of the filter in bits per entry
+	 * of the dictionary (the more bits, the less false positives).
+	 */
+	public static FormFilter build(BgDictionary dict, int bitsPerForm) {
+		if(bitsPerForm < 1) throw new IllegalArgumentException("bitsPerForm: " + bitsPerForm);
+		
+		int entryCount = BGLangTools.getEntryCount(dict);
+		
+		long blockCount = (Math.max(1L, entryCount) * bitsPerForm + 511) / 512;
+		if(blockCount * BLOCK_SIZE > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException("Too many entries: " + entryCount);
+		}
+		
+		int hashCount = (int)Math.round(bitsPerForm * Math.log(2));
+		hashCount = Math.max(1, Math.min(MAX_HASH_COUNT, hashCount));
+		
+		FormFilter filter = new FormFilter((int)blockCount, hashCount);
+		BGLangTools.forEachEntry(dict, we -> filter.add(we.word));
+		
+		return filter;
+	}
+	
+	private void add(CharSequence word) {
+		long h = hash(word);
+		int block = getBlock(h);
+		long h2 = mix(h);
+		
+		for(int i = 0; i < hashCount; i++, h2 >>>= 9) {
+			int bit = (int)h2 & 511;
+			bits[block + (bit >>> 6)] |= 1L << bit;
+		}
+	}
+	
+	/**
+	 * Determines whether the specified word or its lower case version
+	 * may be in the dictionary. If <code>false</code> is returned,
+	 * the word is definitely not in the dictionary.
+	 */
+	public boolean mightContain(CharSequence word) {
+		long h = hash(word);
+		int block = getBlock(h);
+		long h2 = mix(h);
+		
+		for(int i = 0; i < hashCount; i++, h2 >>>= 9) {
+			int bit = (int)h2 & 511;
+			if((bits[block + (bit >>> 6)] & 1L << bit) == 0) return false;
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Gets the size of this filter in bytes.
+	 */
+	public int getSize() {
+		return 8 * bits.length;
+	}
+	
+	/**
+	 * Gets the index of the first long of the block of the specified hash.
+	 */
+	private int getBlock(long h) {
+		return (int)(((h >>> 32) * blockCount) >>> 32) * BLOCK_SIZE;
+	}
+	
+	/** The lower case FNV-1a hash of the specified word. */
+	private static long hash(CharSequence s) {
+		long h = 0xCBF29CE484222325L;
+		
+		for(int i = 0; i < s.length(); i++) {
+			h = (h ^ Character.toLowerCase(s.charAt(i))) * 0x100000001B3L;
+		}
+		
+		return mix(h);
+	}
+	
+	/** The finalizer of MurmurHash3. */
+	private static long mix(long h) {
+		h ^= h >>> 33;
+		h *= 0xFF51AFD7ED558CCDL;
+		h ^= h >>> 33;
+		h *= 0xC4CEB9FE1A85EC53L;
+		h ^= h >>> 33;
+		return h;
+	}
+}
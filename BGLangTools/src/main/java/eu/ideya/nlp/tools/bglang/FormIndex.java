@@ -0,0 +1,70 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang;
+
+import eu.ideya.lingua.bg.core.BgDictionary;
+import eu.ideya.lingua.bg.core.WordEntry;
+
+import java.util.List;
+
+/**
+ * An immutable index of the entries of a dictionary by their word forms.
+ * The implementations are thread safe.
+ */
+public interface FormIndex {
+	/**
+	 * Finds all entries of the indexed dictionary,
+	 * whose word form is exactly the specified one.
+	 * @return A read-only list of the entries, in ascending order of their IDs
+	 * (an empty list if there are no such entries).
+	 */
+	List<WordEntry> findExactMatches(CharSequence form);
+	
+	/**
+	 * Gets the number of distinct word forms in the index.
+	 */
+	int getFormCount();
+	
+	/**
+	 * Determines whether this index reads the lemmas of its entries itself,
+	 * i.e. whether {@link #getLemmaEntry(BgDictionary, List, int)} doesn't
+	 * use the dictionary. Such an index can be used by the lemmatizer
+	 * without loading a {@link BgDictionary}.
+	 */
+	default boolean isSelfContained() {
+		return false;
+	}
+	
+	/**
+	 * Gets the lemma of the specified one of the entries
+	 * found by {@link #findExactMatches(CharSequence)}.
+	 * @param dict The indexed dictionary (<code>null</code>
+	 * if this index is self-contained).
+	 * @param entries The entries found by this index.
+	 * @param index The index of the entry in <code>entries</code>.
+	 */
+	default WordEntry getLemmaEntry(BgDictionary dict, List<WordEntry> entries, int index) {
+		WordEntry e = entries.get(index);
+		return e.lemmaId == -1 ? e : dict.getWordEntryById(e.lemmaId);
+	}
+}
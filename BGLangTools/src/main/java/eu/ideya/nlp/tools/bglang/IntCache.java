@@ -0,0 +1,111 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang;
+
+/**
+ * A map from <code>int</code> keys to objects, optimized for lookups.
+ * The lookups are lock-free and don't box the key. The updates are
+ * synchronized and insert the entry in place; the table is copied only
+ * when it grows (its capacity is doubled), so filling the map takes
+ * amortized constant time per entry. A concurrent lookup may miss an
+ * entry, which is being inserted, so this class is suitable for caches,
+ * whose values can be recomputed (for example caches keyed by
+ * grammatical labels).
+ */
+final class IntCache<V> {
+	/**
+	 * An immutable key-value pair. The final fields guarantee
+	 * that a lookup, which sees the entry, sees its key and value.
+	 */
+	private final static class Entry {
+		final int key;
+		final Object value;
+		
+		Entry(int key, Object value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+	
+	private volatile Entry[] table = new Entry[16];
+	
+	/** The number of entries in the table (guarded by <code>this</code>). */
+	private int size = 0;
+	
+	/**
+	 * Gets the value associated with the specified key.
+	 * @return The value or <code>null</code> if there is no such key.
+	 */
+	@SuppressWarnings("unchecked")
+	V get(int key) {
+		Entry[] t = table;
+		int mask = t.length - 1;
+		
+		for(int i = hash(key) & mask; ; i = (i + 1) & mask) {
+			Entry e = t[i];
+			if(e == null) return null;
+			if(e.key == key) return (V)e.value;
+		}
+	}
+	
+	/**
+	 * Associates the specified value with the specified key,
+	 * replacing the previous value (if any).
+	 */
+	synchronized void put(int key, V value) {
+		if(value == null) throw new NullPointerException();
+		
+		Entry[] t = table;
+		
+		if(2 * (size + 1) > t.length) {
+			Entry[] newTable = new Entry[t.length * 2];
+			for(Entry e : t) if(e != null) insert(newTable, e);
+			
+			// publish the new table only after it is populated
+			table = t = newTable;
+		}
+		
+		if(insert(t, new Entry(key, value))) size++;
+	}
+	
+	/**
+	 * Inserts the specified entry in the specified table.
+	 * @return <code>true</code> if the key is new, <code>false</code>
+	 * if the entry replaces an entry with the same key.
+	 */
+	private static boolean insert(Entry[] t, Entry e) {
+		int mask = t.length - 1;
+		int i = hash(e.key) & mask;
+		
+		while(t[i] != null && t[i].key != e.key) i = (i + 1) & mask;
+		
+		boolean isNew = t[i] == null;
+		t[i] = e;
+		return isNew;
+	}
+	
+	private static int hash(int key) {
+		int h = key * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+}
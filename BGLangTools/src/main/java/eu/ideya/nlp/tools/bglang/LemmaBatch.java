@@ -0,0 +1,160 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang;
+
+import eu.ideya.lingua.bg.core.BgDictionary;
+import eu.ideya.lingua.bg.core.WordEntry;
+import static eu.ideya.nlp.tools.bglang.I18n.i18n;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Buffers lemmas and their generated word forms, so that they can be
+ * produced concurrently and added later to a dictionary. The word forms
+ * passed to {@link #addWordForm(String, int, int)} are associated with
+ * the last added lemma. The entries are added to the dictionary in the
+ * order in which they are added to the batch, so the IDs they get
+ * don't depend on the thread, which has produced the batch.
+ */
+final class LemmaBatch implements WordFormSink {
+	private String[] words = new String[256];
+	private int[] uids = new int[256];
+	
+	/** Determines which of the buffered words are lemmas. */
+	private boolean[] lemmas = new boolean[256];
+	
+	private int size = 0;
+	
+	/**
+	 * Adds a lemma with the specified grammatical label to this batch.
+	 */
+	void addLemma(String lemma, int grammLabelUid) {
+		add(lemma, grammLabelUid, true);
+	}
+	
+	/**
+	 * Adds a word form of the last added lemma. Note that the
+	 * lemma ID is ignored, since the lemma is not in a dictionary yet.
+	 */
+	@Override
+	public void addWordForm(String word, int lemmaId, int grammLabelUid) {
+		add(word, grammLabelUid, false);
+	}
+	
+	/**
+	 * Gets the number of buffered words (lemmas and word forms).
+	 */
+	int size() {
+		return size;
+	}
+	
+	/**
+	 * Adds the buffered lemmas and word forms to the specified dictionary.
+	 * If a lemma (or one of its word forms) can't be added,
+	 * the rest of its word forms are skipped.
+	 */
+	void addTo(BgDictionary dict) {
+		WordEntry lemma = null;
+		
+		for(int i = 0; i < size; i++) {
+			if(lemmas[i]) lemma = null;
+			
+			try {
+				if(lemmas[i]) lemma = dict.addWord(words[i], uids[i], -1);
+				else if(lemma != null) dict.addWord(words[i], uids[i], lemma.id);
+			} catch(Exception e) {
+				e.printStackTrace();
+				lemma = null;
+			}
+		}
+	}
+	
+	/**
+	 * Writes the buffered lemmas and word forms in the specified stream.
+	 * @see #readFrom(DataInputStream)
+	 */
+	void writeTo(DataOutputStream out) throws IOException {
+		out.writeInt(size);
+		
+		for(int i = 0; i < size; i++) {
+			out.writeBoolean(lemmas[i]);
+			out.writeInt(uids[i]);
+			out.writeUTF(words[i]);
+		}
+	}
+	
+	/**
+	 * Reads a batch written by {@link #writeTo(DataOutputStream)}.
+	 */
+	static LemmaBatch readFrom(DataInputStream in) throws IOException {
+		LemmaBatch batch = new LemmaBatch();
+		int size = in.readInt();
+		if(size < 0) throw new IOException("Invalid batch size: " + size);
+		
+		for(int i = 0; i < size; i++) {
+			boolean lemma = in.readBoolean();
+			int uid = in.readInt();
+			batch.add(in.readUTF(), uid, lemma);
+		}
+		
+		return batch;
+	}
+	
+	/**
+	 * Waits for the specified batch to be produced and returns it.
+	 * The exceptions thrown while producing the batch are rethrown.
+	 */
+	static LemmaBatch get(Future<LemmaBatch> batch) {
+		try {
+			return batch.get();
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			String err = i18n.getError("LemmaBatch.interrupted");
+			throw new IllegalStateException(err, e);
+		} catch(ExecutionException e) {
+			Throwable cause = e.getCause();
+			if(cause instanceof RuntimeException) throw (RuntimeException)cause;
+			if(cause instanceof Error) throw (Error)cause;
+			throw new IllegalStateException(cause);
+		}
+	}
+	
+	private void add(String word, int grammLabelUid, boolean lemma) {
+		if(size == words.length) {
+			int capacity = 2 * size;
+			words = Arrays.copyOf(words, capacity);
+			uids = Arrays.copyOf(uids, capacity);
+			lemmas = Arrays.copyOf(lemmas, capacity);
+		}
+		
+		words[size] = word;
+		uids[size] = grammLabelUid;
+		lemmas[size] = lemma;
+		size++;
+	}
+}
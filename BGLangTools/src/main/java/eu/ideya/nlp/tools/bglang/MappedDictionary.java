@@ -0,0 +1,402 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang;
+
+import eu.ideya.lingua.bg.core.BgDictionary;
+import eu.ideya.lingua.bg.core.WordEntry;
+import static eu.ideya.nlp.tools.bglang.I18n.i18n;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A read-only dictionary, which is queried directly in a memory-mapped
+ * file. Opening the dictionary doesn't parse the file and doesn't create
+ * an object for each word, so only the pages of the file, which are
+ * actually accessed, are loaded in memory.
+ * <p>
+ * The entries of the dictionary are accessed by their index in the entry
+ * table, which is sorted by word form and ID. The distinct word forms are
+ * sorted and indexed as well. For example, the lemmas of a word can be found
+ * without creating word entries as follows:
+ * <pre>
+ * int form = dict.findForm(word);
+ * if(form != -1) {
+ *     for(int i = dict.getFirstEntry(form); i &lt; dict.getLastEntry(form); i++) {
+ *         int lemmaId = dict.getLemmaId(i);
+ *         ...
+ *     }
+ * }
+ * </pre>
+ * <p>
+ * The dictionary is also a self-contained {@link FormIndex}, so the
+ * lemmatizer can use it instead of a {@link BgDictionary} and an index,
+ * which are built at startup.
+ * <p>
+ * Use {@link #export(BgDictionary, File)} to create a dictionary file.
+ * The file consists of a header, followed by the form table (the offsets of
+ * the word forms in the string pool and the index of their first entry),
+ * the entry table (ID, lemma ID, grammatical label and form of each entry),
+ * an index of the entries by ID and the string pool (UTF-16).
+ * This class is thread safe.
+ */
+public final class MappedDictionary implements FormIndex {
+	/** The first four bytes of a dictionary file (<b>BGLD</b>). */
+	private final static int MAGIC = 0x42474C44;
+	private final static int FORMAT_VERSION = 1;
+	
+	private final static int HEADER_SIZE = 24;
+	private final static int ENTRY_SIZE = 4;
+	
+	private final int formCount;
+	private final int entryCount;
+	
+	/** The offsets of the word forms in the string pool. */
+	private final IntBuffer formOffsets;
+	
+	/** The index of the first entry of each word form. */
+	private final IntBuffer formEntries;
+	
+	private final IntBuffer entries;
+	
+	/** The index of the entry of each ID (-1 if there is no such ID). */
+	private final IntBuffer ids;
+	
+	private final CharBuffer pool;
+	
+	private MappedDictionary(ByteBuffer buf, String file) {
+		if(buf.capacity() < HEADER_SIZE || buf.getInt(0) != MAGIC || buf.getInt(4) != FORMAT_VERSION) {
+			String err = i18n.getError("MappedDictionary.invalidFile", file);
+			throw new IllegalArgumentException(err);
+		}
+		
+		formCount = buf.getInt(8);
+		entryCount = buf.getInt(12);
+		int poolSize = buf.getInt(16);
+		int idCount = buf.getInt(20);
+		
+		int pos = HEADER_SIZE;
+		formOffsets = slice(buf, pos, formCount + 1).asIntBuffer();
+		pos += 4 * (formCount + 1);
+		formEntries = slice(buf, pos, formCount + 1).asIntBuffer();
+		pos += 4 * (formCount + 1);
+		entries = slice(buf, pos, ENTRY_SIZE * entryCount).asIntBuffer();
+		pos += 4 * ENTRY_SIZE * entryCount;
+		ids = slice(buf, pos, idCount).asIntBuffer();
+		pos += 4 * idCount;
+		
+		if(pos + 2L * poolSize != buf.capacity()) {
+			String err = i18n.getError("MappedDictionary.invalidFile", file);
+			throw new IllegalArgumentException(err);
+		}
+		
+		pool = buf.duplicate().position(pos).slice().asCharBuffer();
+	}
+	
+	private static ByteBuffer slice(ByteBuffer buf, int pos, int intCount) {
+		ByteBuffer b = buf.duplicate();
+		b.position(pos).limit(pos + 4 * intCount);
+		return b.slice();
+	}
+	
+	/**
+	 * Opens the specified dictionary file.
+	 * @throws IOException if an I/O error occurs.
+	 * @throws IllegalArgumentException if the file is not a valid dictionary file.
+	 */
+	public static MappedDictionary open(File file) throws IOException {
+		try(FileChannel ch = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+			return new MappedDictionary(buf, file.getAbsolutePath());
+		}
+	}
+	
+	/**
+	 * Gets the number of entries in this dictionary.
+	 */
+	public int getEntryCount() {
+		return entryCount;
+	}
+	
+	/**
+	 * Gets the number of distinct word forms in this dictionary.
+	 */
+	@Override
+	public int getFormCount() {
+		return formCount;
+	}
+	
+	/**
+	 * Finds the specified word form.
+	 * @return The index of the word form or -1 if not found.
+	 */
+	public int findForm(CharSequence word) {
+		int low = 0;
+		int high = formCount - 1;
+		
+		while(low <= high) {
+			int mid = (low + high) >>> 1;
+			int c = compare(mid, word);
+			
+			if(c < 0) low = mid + 1;
+			else if(c > 0) high = mid - 1;
+			else return mid;
+		}
+		
+		return -1;
+	}
+	
+	private int compare(int form, CharSequence word) {
+		int start = formOffsets.get(form);
+		int len = formOffsets.get(form + 1) - start;
+		int n = Math.min(len, word.length());
+		
+		for(int i = 0; i < n; i++) {
+			int c = pool.get(start + i) - word.charAt(i);
+			if(c != 0) return c;
+		}
+		
+		return len - word.length();
+	}
+	
+	/**
+	 * Gets the word form with the specified index.
+	 */
+	public String getForm(int form) {
+		int start = formOffsets.get(form);
+		int end = formOffsets.get(form + 1);
+		
+		char[] chars = new char[end - start];
+		pool.duplicate().position(start).get(chars);
+		return new String(chars);
+	}
+	
+	/**
+	 * Gets the index of the first entry of the specified word form.
+	 */
+	public int getFirstEntry(int form) {
+		return formEntries.get(form);
+	}
+	
+	/**
+	 * Gets the index following the last entry of the specified word form.
+	 */
+	public int getLastEntry(int form) {
+		return formEntries.get(form + 1);
+	}
+	
+	/**
+	 * Gets the ID of the specified entry.
+	 * @param entry The index of the entry.
+	 */
+	public int getId(int entry) {
+		return entries.get(ENTRY_SIZE * entry);
+	}
+	
+	/**
+	 * Gets the lemma ID of the specified entry (-1 if the entry is a lemma).
+	 * @param entry The index of the entry.
+	 */
+	public int getLemmaId(int entry) {
+		return entries.get(ENTRY_SIZE * entry + 1);
+	}
+	
+	/**
+	 * Gets the grammatical label of the specified entry.
+	 * @param entry The index of the entry.
+	 */
+	public int getGrammLabelUid(int entry) {
+		return entries.get(ENTRY_SIZE * entry + 2);
+	}
+	
+	/**
+	 * Gets the index of the word form of the specified entry.
+	 * @param entry The index of the entry.
+	 */
+	public int getFormIndex(int entry) {
+		return entries.get(ENTRY_SIZE * entry + 3);
+	}
+	
+	/**
+	 * Gets the index of the entry with the specified ID.
+	 * @return The index of the entry or -1 if there is no such entry.
+	 */
+	public int getEntryIndex(int id) {
+		if(id < 0 || id >= ids.capacity()) return -1;
+		return ids.get(id);
+	}
+	
+	/**
+	 * Creates a word entry for the specified entry of this dictionary.
+	 * @param entry The index of the entry.
+	 */
+	public WordEntry getWordEntry(int entry) {
+		String word = getForm(getFormIndex(entry));
+		WordEntry we = new WordEntry(word, getLemmaId(entry), getGrammLabelUid(entry));
+		we.id = getId(entry);
+		return we;
+	}
+	
+	/**
+	 * Creates a word entry for the entry with the specified ID.
+	 * @return The word entry or <code>null</code> if there is no such entry.
+	 */
+	public WordEntry getWordEntryById(int id) {
+		int entry = getEntryIndex(id);
+		return entry == -1 ? null : getWordEntry(entry);
+	}
+	
+	/**
+	 * Passes all entries of this dictionary to the specified
+	 * consumer in ascending order of their IDs.
+	 */
+	public void forEachEntry(Consumer<WordEntry> consumer) {
+		for(int id = 0; id < ids.capacity(); id++) {
+			int entry = ids.get(id);
+			if(entry != -1) consumer.accept(getWordEntry(entry));
+		}
+	}
+	
+	/**
+	 * Creates word entries for all entries of the specified word form.
+	 */
+	@Override
+	public List<WordEntry> findExactMatches(CharSequence word) {
+		int form = findForm(word);
+		if(form == -1) return Collections.emptyList();
+		
+		int first = getFirstEntry(form);
+		WordEntry[] a = new WordEntry[getLastEntry(form) - first];
+		for(int i = 0; i < a.length; i++) a[i] = getWordEntry(first + i);
+		
+		return Collections.unmodifiableList(Arrays.asList(a));
+	}
+	
+	/**
+	 * Returns <code>true</code>, since the lemmas are read from this dictionary.
+	 */
+	@Override
+	public boolean isSelfContained() {
+		return true;
+	}
+	
+	/**
+	 * Gets the lemma of the specified one of the entries found by
+	 * {@link #findExactMatches(CharSequence)}. The lemma is read from
+	 * this dictionary, so <code>dict</code> isn't used.
+	 */
+	@Override
+	public WordEntry getLemmaEntry(BgDictionary dict, List<WordEntry> entries, int index) {
+		WordEntry e = entries.get(index);
+		return e.lemmaId == -1 ? e : getWordEntryById(e.lemmaId);
+	}
+	
+	/**
+	 * Exports the specified dictionary in the format used by this class.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public static void export(BgDictionary dict, File file) throws IOException {
+		final ArrayList<WordEntry> list = new ArrayList<WordEntry>();
+		BGLangTools.forEachEntry(dict, list::add);
+		
+		WordEntry[] a = list.toArray(new WordEntry[list.size()]);
+		Arrays.sort(a, (we1, we2) -> {
+			int c = we1.word.compareTo(we2.word);
+			return c != 0 ? c : Integer.compare(we1.id, we2.id);
+		});
+		
+		int maxId = -1;
+		for(WordEntry we : a) maxId = Math.max(maxId, we.id);
+		
+		int[] ids = new int[maxId + 1];
+		Arrays.fill(ids, -1);
+		
+		int[] forms = new int[a.length];
+		int formCount = 0;
+		int poolSize = 0;
+		
+		for(int i = 0; i < a.length; i++) {
+			if(i == 0 || !a[i].word.equals(a[i - 1].word)) {
+				formCount++;
+				poolSize += a[i].word.length();
+			}
+			
+			forms[i] = formCount - 1;
+			ids[a[i].id] = i;
+		}
+		
+		FileOutputStream fos = new FileOutputStream(file);
+		
+		try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fos, 65536))) {
+			out.writeInt(MAGIC);
+			out.writeInt(FORMAT_VERSION);
+			out.writeInt(formCount);
+			out.writeInt(a.length);
+			out.writeInt(poolSize);
+			out.writeInt(ids.length);
+			
+			// form offsets
+			int offset = 0;
+			for(int i = 0; i < a.length; i++) {
+				if(i == 0 || forms[i] != forms[i - 1]) {
+					out.writeInt(offset);
+					offset += a[i].word.length();
+				}
+			}
+			out.writeInt(offset);
+			
+			// first entry of each form
+			for(int i = 0; i < a.length; i++) {
+				if(i == 0 || forms[i] != forms[i - 1]) out.writeInt(i);
+			}
+			out.writeInt(a.length);
+			
+			for(int i = 0; i < a.length; i++) {
+				out.writeInt(a[i].id);
+				out.writeInt(a[i].lemmaId);
+				out.writeInt(a[i].grammLabelUid);
+				out.writeInt(forms[i]);
+			}
+			
+			for(int id : ids) out.writeInt(id);
+			
+			for(int i = 0; i < a.length; i++) {
+				if(i == 0 || forms[i] != forms[i - 1]) out.writeChars(a[i].word);
+			}
+		}
+	}
+}
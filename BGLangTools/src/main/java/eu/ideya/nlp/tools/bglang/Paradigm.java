@@ -0,0 +1,121 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang;
+
+import eu.ideya.lingua.bg.core.WordEntry;
+
+import java.util.ArrayList;
+import java.util.function.IntPredicate;
+
+/**
+ * Represents the inflection paradigm of a single grammatical type.
+ * Use {@link ParadigmRegistry} to obtain the paradigm of a given type.
+ */
+public final class Paradigm {
+	/**
+	 * Generates the word forms of a lemma of a particular grammatical type.
+	 */
+	public interface Generator {
+		void generateWordForms(WordEntry lemma, WordFormSink sink);
+		
+		/**
+		 * Gets the first word form of the specified lemma, whose grammatical
+		 * label matches the specified predicate. The default implementation
+		 * generates all word forms and keeps the first matching one.
+		 * @return The word form or <code>null</code> if there is no such word form.
+		 */
+		default String inflect(WordEntry lemma, IntPredicate matcher) {
+			final String[] form = new String[1];
+			
+			generateWordForms(lemma, (word, lemmaId, grammLabelUid) -> {
+				if(form[0] == null && matcher.test(grammLabelUid)) form[0] = word;
+			});
+			
+			return form[0];
+		}
+	}
+	
+	private final String grammarType;
+	private final int typeId;
+	private final Generator generator;
+	
+	Paradigm(String grammarType, int typeId, Generator generator) {
+		this.grammarType = grammarType;
+		this.typeId = typeId;
+		this.generator = generator;
+	}
+	
+	/**
+	 * Gets the grammatical type of this paradigm (for example <b>2a</b>).
+	 */
+	public String getGrammarType() {
+		return grammarType;
+	}
+	
+	/**
+	 * Gets the ID of the grammatical type of this paradigm as returned by
+	 * {@link eu.ideya.lingua.bg.core.BgGrammarType#getTypeId(String)}.
+	 */
+	public int getTypeId() {
+		return typeId;
+	}
+	
+	/**
+	 * Generates all word forms of the specified lemma.
+	 * @throws IllegalArgumentException if the lemma doesn't match this paradigm.
+	 */
+	public WordEntry[] generateWordForms(WordEntry lemma) {
+		final ArrayList<WordEntry> entries = new ArrayList<WordEntry>();
+		
+		generator.generateWordForms(lemma, (word, lemmaId, grammLabelUid) -> {
+			entries.add(new WordEntry(word, lemmaId, grammLabelUid));
+		});
+		
+		return entries.toArray(new WordEntry[entries.size()]);
+	}
+	
+	/**
+	 * Generates all word forms of the specified lemma
+	 * and passes them to the specified sink.
+	 * @throws IllegalArgumentException if the lemma doesn't match this paradigm.
+	 */
+	public void generateWordForms(WordEntry lemma, WordFormSink sink) {
+		generator.generateWordForms(lemma, sink);
+	}
+	
+	/**
+	 * Gets the first word form of the specified lemma, whose
+	 * grammatical label matches the specified predicate.
+	 * Only the requested word form is built, if possible.
+	 * @return The word form or <code>null</code> if there is no such word form.
+	 * @throws IllegalArgumentException if the lemma doesn't match this paradigm.
+	 */
+	public String inflect(WordEntry lemma, IntPredicate matcher) {
+		return generator.inflect(lemma, matcher);
+	}
+	
+	@Override
+	public String toString() {
+		return "Paradigm " + grammarType;
+	}
+}
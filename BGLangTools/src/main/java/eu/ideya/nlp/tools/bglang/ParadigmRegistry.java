@@ -0,0 +1,154 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang;
+
+import eu.ideya.lingua.bg.core.BgGrammarType;
+import eu.ideya.lingua.bg.core.WordEntry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Maps the grammatical types to the paradigms used to inflect them.
+ * The registry is built once, when the class is initialized, from the
+ * paradigm definitions in the <b>res/paradigms.dat</b> resource and
+ * provides direct access to the paradigm of each grammatical type
+ * supported by {@link BgWordFormGenerator}.
+ * Note that there are no paradigms for the pronouns
+ * (types form 90 to 130 inclusive) and for types 142 and 143.
+ */
+public final class ParadigmRegistry {
+	private final static ParadigmRegistry paradigmRegistry = new ParadigmRegistry();
+	
+	/** The registered paradigms, indexed by type ID. */
+	private final Paradigm[] paradigms;
+	
+	/** The registered paradigms in order of registration. */
+	private final List<Paradigm> paradigmList;
+	
+	private ParadigmRegistry() {
+		ArrayList<Paradigm> list = new ArrayList<Paradigm>();
+		registerBuiltinParadigms(list);
+		
+		int maxId = -1;
+		for(Paradigm p : list) maxId = Math.max(maxId, p.getTypeId());
+		
+		paradigms = new Paradigm[maxId + 1];
+		for(Paradigm p : list) paradigms[p.getTypeId()] = p;
+		
+		paradigmList = Collections.unmodifiableList(list);
+	}
+	
+	public static ParadigmRegistry getInstance() {
+		return paradigmRegistry;
+	}
+	
+	/**
+	 * Gets the paradigm of the specified grammatical type.
+	 * @param typeId The ID of the grammatical type as returned by
+	 * {@link BgGrammarType#getTypeId(int)}.
+	 * @return The paradigm or <code>null</code> if there is
+	 * no paradigm for the specified type.
+	 */
+	public Paradigm getParadigm(int typeId) {
+		if(typeId < 0 || typeId >= paradigms.length) return null;
+		return paradigms[typeId];
+	}
+	
+	/**
+	 * Gets the paradigm of the specified grammatical type.
+	 * @param grammarType The grammatical type (for example <b>2a</b>).
+	 * @return The paradigm or <code>null</code> if there is
+	 * no paradigm for the specified type.
+	 */
+	public Paradigm getParadigm(String grammarType) {
+		return getParadigm(BgGrammarType.getTypeId(grammarType));
+	}
+	
+	/**
+	 * Determines whether there is a paradigm for the specified grammatical type.
+	 */
+	public boolean hasParadigm(int typeId) {
+		return getParadigm(typeId) != null;
+	}
+	
+	/**
+	 * Gets all registered paradigms in ascending order of their grammatical types.
+	 */
+	public List<Paradigm> getParadigms() {
+		return paradigmList;
+	}
+	
+	/**
+	 * Generates all word forms of the specified lemma using the paradigm
+	 * of its grammatical type.
+	 * @return The generated word forms or <code>null</code> if there is
+	 * no paradigm for the grammatical type of the lemma.
+	 * @throws IllegalArgumentException if the lemma doesn't match the paradigm.
+	 */
+	public WordEntry[] generateWordForms(WordEntry lemma) {
+		Paradigm p = getParadigm(BgGrammarType.getTypeId(lemma.grammLabelUid));
+		if(p == null) return null;
+		
+		return p.generateWordForms(lemma);
+	}
+	
+	/**
+	 * Generates all word forms of the specified lemma using the paradigm
+	 * of its grammatical type and passes them to the specified sink.
+	 * @return <code>false</code> if there is no paradigm for
+	 * the grammatical type of the lemma, <code>true</code> otherwise.
+	 * @throws IllegalArgumentException if the lemma doesn't match the paradigm.
+	 */
+	public boolean generateWordForms(WordEntry lemma, WordFormSink sink) {
+		Paradigm p = getParadigm(BgGrammarType.getTypeId(lemma.grammLabelUid));
+		if(p == null) return false;
+		
+		p.generateWordForms(lemma, sink);
+		return true;
+	}
+	
+	private static void register(List<Paradigm> list, String grammarType, Paradigm.Generator generator) {
+		int typeId = BgGrammarType.getTypeId(grammarType);
+		if(typeId == -1) return;
+		
+		list.add(new Paradigm(grammarType, typeId, generator));
+	}
+	
+	private static void registerBuiltinParadigms(List<Paradigm> list) {
+		ParadigmTable table;
+		
+		try {
+			table = ParadigmTable.loadBuiltinTable();
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		
+		for(int i = 0; i < table.getParadigmCount(); i++) {
+			register(list, table.getGrammarType(i), table.getGenerator(i));
+		}
+	}
+}
@@ -0,0 +1,529 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang;
+
+import eu.ideya.lingua.bg.core.WordEntry;
+import static eu.ideya.nlp.tools.bglang.I18n.i18n;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * The inflection paradigms defined in the <b>res/paradigms.dat</b> resource.
+ * The definitions are compiled (when loaded) into a single array of instructions
+ * and a pool of strings, which are executed by {@link #generateWordForms(int, WordEntry, WordFormSink)}.
+ * See the resource for a description of the definition format.
+ * This class is immutable and thus thread safe.
+ */
+final class ParadigmTable {
+	/** dst, src, reverse index, old, new, old suffix, new suffix */
+	private final static int OP_TRANSFORM = 0;
+	/** dst, src, old suffix, new suffix */
+	private final static int OP_SUFFIX = 1;
+	/** dst, src, count */
+	private final static int OP_STRIP = 2;
+	/** stem, suffix, label */
+	private final static int OP_FORM = 3;
+	/** lemma, word form, label */
+	private final static int OP_EXCEPTION = 4;
+	
+	/** The length of the instructions, indexed by opcode. */
+	private final static int[] LENGTHS = { 8, 5, 4, 4, 4 };
+	
+	/**
+	 * The labels, which are encoded by the encode methods of
+	 * {@link BgWordFormGenerator}. The other labels are BTB tags.
+	 */
+	private final static String[] LABELS = {
+		"SingularIndefinite", "SingularIndefiniteM", "SingularIndefiniteF", "SingularIndefiniteN",
+		"SingularDefinite", "SingularDefiniteM", "SingularDefiniteF", "SingularDefiniteN",
+		"SingularVocative", "SingularDefiniteFull", "SingularDefiniteFullM",
+		"PluralIndefinite", "PluralDefinite", "PluralIndefiniteNone", "PluralDefiniteNone",
+		"PluralIndefiniteM", "PluralDefiniteM", "PluralIndefiniteF", "PluralDefiniteF",
+		"PluralIndefiniteN", "PluralDefiniteN", "CountForm", "ExtendedForm"
+	};
+	
+	private final String[] grammarTypes;
+	
+	/** The offset in {@link #code} of each paradigm (and the end of the last one). */
+	private final int[] offsets;
+	
+	/**
+	 * The offset in {@link #stemDefinitions} of the stems
+	 * of each paradigm (and the end of the last one).
+	 */
+	private final int[] stemOffsets;
+	
+	/**
+	 * The offset in {@link #code} of the instruction, which computes each stem
+	 * of each paradigm (-1 for the first stem of each paradigm, the lemma).
+	 */
+	private final int[] stemDefinitions;
+	
+	private final int[] code;
+	private final String[] strings;
+	
+	private ParadigmTable (
+		String[] grammarTypes, int[] offsets, int[] stemOffsets,
+		int[] stemDefinitions, int[] code, String[] strings
+	) {
+		this.grammarTypes = grammarTypes;
+		this.offsets = offsets;
+		this.stemOffsets = stemOffsets;
+		this.stemDefinitions = stemDefinitions;
+		this.code = code;
+		this.strings = strings;
+	}
+	
+	/**
+	 * Loads the paradigms built in the BGLangTools library.
+	 */
+	static ParadigmTable loadBuiltinTable() throws IOException {
+		try(InputStream in = BGLangTools.class.getResourceAsStream("res/paradigms.dat")) {
+			if(in == null) {
+				String err = i18n.getError("ParadigmTable.missingResource", "res/paradigms.dat");
+				throw new IOException(err);
+			}
+			
+			return load(in);
+		}
+	}
+	
+	/**
+	 * Loads and compiles the paradigm definitions from the specified stream.
+	 * @throws IllegalArgumentException if a definition is invalid.
+	 */
+	static ParadigmTable load(InputStream in) throws IOException {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+		Compiler compiler = new Compiler();
+		
+		String line;
+		while((line = reader.readLine()) != null) compiler.compile(line);
+		
+		return compiler.getTable();
+	}
+	
+	/**
+	 * Gets the number of paradigms in this table.
+	 */
+	int getParadigmCount() {
+		return grammarTypes.length;
+	}
+	
+	/**
+	 * Gets the grammatical type of the specified paradigm (for example <b>2a</b>).
+	 */
+	String getGrammarType(int paradigm) {
+		return grammarTypes[paradigm];
+	}
+	
+	/**
+	 * Gets a generator, which executes the specified paradigm.
+	 */
+	Paradigm.Generator getGenerator(int paradigm) {
+		return new TableGenerator(paradigm);
+	}
+	
+	/**
+	 * Executes a paradigm of this table. All paradigms share
+	 * this class, so the calls to the generators are monomorphic.
+	 */
+	private final class TableGenerator implements Paradigm.Generator {
+		private final int paradigm;
+		
+		TableGenerator(int paradigm) {
+			this.paradigm = paradigm;
+		}
+		
+		@Override
+		public void generateWordForms(WordEntry lemma, WordFormSink sink) {
+			ParadigmTable.this.generateWordForms(paradigm, lemma, sink);
+		}
+		
+		@Override
+		public String inflect(WordEntry lemma, IntPredicate matcher) {
+			return ParadigmTable.this.inflect(paradigm, lemma, matcher);
+		}
+	}
+	
+	/**
+	 * Generates the word forms of the specified lemma using the specified paradigm.
+	 * @throws IllegalArgumentException if the lemma doesn't match the paradigm.
+	 */
+	void generateWordForms(int paradigm, WordEntry lemma, WordFormSink sink) {
+		final int[] code = this.code;
+		final String[] strings = this.strings;
+		
+		String[] stems = new String[stemOffsets[paradigm + 1] - stemOffsets[paradigm]];
+		stems[0] = lemma.word;
+		int uid = lemma.grammLabelUid;
+		
+		int end = offsets[paradigm + 1];
+		for(int pc = offsets[paradigm]; pc < end; pc += LENGTHS[code[pc]]) {
+			switch(code[pc]) {
+			case OP_FORM:
+				int formUid = encode(code[pc + 3], uid);
+				sink.addWordForm(stems[code[pc + 1]], strings[code[pc + 2]], lemma.id, formUid);
+				break;
+			case OP_EXCEPTION:
+				if(lemma.word.equals(strings[code[pc + 1]])) {
+					sink.addWordForm(strings[code[pc + 2]], lemma.id, encode(code[pc + 3], uid));
+				}
+				break;
+			default:
+				stems[code[pc + 1]] = computeStem(pc, stems[code[pc + 2]]);
+			}
+		}
+	}
+	
+	/**
+	 * Inflects the specified lemma to the first word form of the specified
+	 * paradigm, whose grammatical label matches the specified predicate.
+	 * Only the stems, on which the word form depends, are computed.
+	 * @return The word form or <code>null</code> if there is no such word form.
+	 * @throws IllegalArgumentException if the lemma doesn't match
+	 * a transformation, on which the word form depends.
+	 */
+	String inflect(int paradigm, WordEntry lemma, IntPredicate matcher) {
+		final int[] code = this.code;
+		int uid = lemma.grammLabelUid;
+		
+		int end = offsets[paradigm + 1];
+		for(int pc = offsets[paradigm]; pc < end; pc += LENGTHS[code[pc]]) {
+			if(code[pc] == OP_FORM) {
+				if(!matcher.test(encode(code[pc + 3], uid))) continue;
+				
+				String stem = getStem(paradigm, code[pc + 1], lemma.word);
+				return stem.concat(strings[code[pc + 2]]);
+			}
+			
+			if(code[pc] == OP_EXCEPTION && lemma.word.equals(strings[code[pc + 1]])) {
+				if(matcher.test(encode(code[pc + 3], uid))) return strings[code[pc + 2]];
+			}
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Computes the specified stem of the specified paradigm
+	 * and the stems, on which it depends.
+	 */
+	private String getStem(int paradigm, int stem, String lemma) {
+		int pc = stemDefinitions[stemOffsets[paradigm] + stem];
+		if(pc == -1) return lemma;
+		
+		return computeStem(pc, getStem(paradigm, code[pc + 2], lemma));
+	}
+	
+	/**
+	 * Executes the stem instruction at the specified offset.
+	 * @param src The stem, from which the new stem is computed.
+	 */
+	private String computeStem(int pc, String src) {
+		switch(code[pc]) {
+		case OP_TRANSFORM:
+			return BgWordFormGenerator.transform (
+				src, code[pc + 3], strings[code[pc + 4]],
+				strings[code[pc + 5]], strings[code[pc + 6]], strings[code[pc + 7]]
+			);
+		case OP_SUFFIX:
+			return BgWordFormGenerator.transform(src, strings[code[pc + 3]], strings[code[pc + 4]]);
+		case OP_STRIP:
+			if(src.length() < code[pc + 3]) {
+				String err = i18n.getError("BgWordformGenerator.wordTooShort");
+				throw new IllegalArgumentException(err);
+			}
+			
+			return src.substring(0, src.length() - code[pc + 3]);
+		default:
+			throw new IllegalStateException("Invalid instruction: " + code[pc]);
+		}
+	}
+	
+	/**
+	 * Gets the grammatical label of the word form with the specified label
+	 * for a lemma with the specified grammatical label.
+	 * @param label The index of an encode method in {@link #LABELS}
+	 * or <code>-(tagId + 1)</code> for a BTB tag registered in {@link BtbTagTable}.
+	 */
+	private static int encode(int label, int uid) {
+		switch(label) {
+		case 0: return BgWordFormGenerator.encodeSingularIndefinite(uid);
+		case 1: return BgWordFormGenerator.encodeSingularIndefiniteM(uid);
+		case 2: return BgWordFormGenerator.encodeSingularIndefiniteF(uid);
+		case 3: return BgWordFormGenerator.encodeSingularIndefiniteN(uid);
+		case 4: return BgWordFormGenerator.encodeSingularDefinite(uid);
+		case 5: return BgWordFormGenerator.encodeSingularDefiniteM(uid);
+		case 6: return BgWordFormGenerator.encodeSingularDefiniteF(uid);
+		case 7: return BgWordFormGenerator.encodeSingularDefiniteN(uid);
+		case 8: return BgWordFormGenerator.encodeSingularVocative(uid);
+		case 9: return BgWordFormGenerator.encodeSingularDefiniteFull(uid);
+		case 10: return BgWordFormGenerator.encodeSingularDefiniteFullM(uid);
+		case 11: return BgWordFormGenerator.encodePluralIndefinite(uid);
+		case 12: return BgWordFormGenerator.encodePluralDefinite(uid);
+		case 13: return BgWordFormGenerator.encodePluralIndefiniteNone(uid);
+		case 14: return BgWordFormGenerator.encodePluralDefiniteNone(uid);
+		case 15: return BgWordFormGenerator.encodePluralIndefiniteM(uid);
+		case 16: return BgWordFormGenerator.encodePluralDefiniteM(uid);
+		case 17: return BgWordFormGenerator.encodePluralIndefiniteF(uid);
+		case 18: return BgWordFormGenerator.encodePluralDefiniteF(uid);
+		case 19: return BgWordFormGenerator.encodePluralIndefiniteN(uid);
+		case 20: return BgWordFormGenerator.encodePluralDefiniteN(uid);
+		case 21: return BgWordFormGenerator.encodeCountForm(uid);
+		case 22: return BgWordFormGenerator.encodeExtendedForm(uid);
+		default: return BtbTagTable.getInstance().getGrammLabelUid(-label - 1, uid);
+		}
+	}
+	
+	/**
+	 * Compiles the paradigm definitions line by line.
+	 */
+	private final static class Compiler {
+		private final ArrayList<String> grammarTypes = new ArrayList<String>();
+		private final ArrayList<Integer> offsets = new ArrayList<Integer>();
+		private final ArrayList<Integer> stemOffsets = new ArrayList<Integer>();
+		private final ArrayList<Integer> stemDefinitions = new ArrayList<Integer>();
+		
+		private int[] code = new int[4096];
+		private int size = 0;
+		
+		private final ArrayList<String> strings = new ArrayList<String>();
+		private final HashMap<String, Integer> stringIds = new HashMap<String, Integer>();
+		
+		/** The stems of the current paradigm. */
+		private final HashMap<String, Integer> stems = new HashMap<String, Integer>();
+		
+		/** Whether the current paradigm has generated a word form. */
+		private boolean hasForms = false;
+		
+		private int lineNumber = 0;
+		
+		void compile(String line) {
+			lineNumber++;
+			
+			List<String> tokens = tokenize(line);
+			if(tokens == null) throw invalidLine(line);
+			if(tokens.isEmpty()) return;
+			
+			String first = tokens.get(0);
+			
+			if(first.equals("paradigm")) {
+				if(tokens.size() != 2) throw invalidLine(line);
+				
+				stems.clear();
+				hasForms = false;
+				grammarTypes.add(tokens.get(1));
+				offsets.add(size);
+				stemOffsets.add(stemDefinitions.size());
+				
+				stems.put("s", 0);
+				stemDefinitions.add(-1);
+				return;
+			}
+			
+			if(grammarTypes.isEmpty()) throw invalidLine(line);
+			
+			if(first.equals("form") && tokens.size() == 4) {
+				hasForms = true;
+				add(OP_FORM, getStem(tokens.get(1), line), getString(tokens.get(2), line), getLabel(tokens.get(3)));
+			} else if(first.equals("exception") && tokens.size() == 4) {
+				hasForms = true;
+				add (
+					OP_EXCEPTION, getString(tokens.get(1), line),
+					getString(tokens.get(2), line), getLabel(tokens.get(3))
+				);
+			} else if(tokens.size() >= 4 && tokens.get(1).equals("=")) {
+				compileStem(tokens, line);
+			} else {
+				throw invalidLine(line);
+			}
+		}
+		
+		/**
+		 * Compiles a stem definition. The stems must be defined before the first
+		 * word form, so that a lemma, which doesn't match a transformation,
+		 * is rejected before any word form is passed to the sink.
+		 */
+		private void compileStem(List<String> tokens, String line) {
+			if(hasForms) {
+				String err = i18n.getError("ParadigmTable.lateStem", lineNumber, line);
+				throw new IllegalArgumentException(err);
+			}
+			
+			String op = tokens.get(2);
+			int src = getStem(tokens.get(3), line);
+			
+			String name = tokens.get(0);
+			if(isQuoted(name) || stems.containsKey(name)) throw invalidLine(line);
+			
+			int dst = stems.size();
+			int pc = size;
+			
+			if(op.equals("transform") && tokens.size() == 9) {
+				add (
+					OP_TRANSFORM, dst, src, getNumber(tokens.get(4), line),
+					getString(tokens.get(5), line), getString(tokens.get(6), line),
+					getString(tokens.get(7), line), getString(tokens.get(8), line)
+				);
+			} else if(op.equals("suffix") && tokens.size() == 6) {
+				add(OP_SUFFIX, dst, src, getString(tokens.get(4), line), getString(tokens.get(5), line));
+			} else if(op.equals("strip") && tokens.size() == 5) {
+				add(OP_STRIP, dst, src, getNumber(tokens.get(4), line));
+			} else {
+				throw invalidLine(line);
+			}
+			
+			stems.put(name, dst);
+			stemDefinitions.add(pc);
+		}
+		
+		ParadigmTable getTable() {
+			offsets.add(size);
+			stemOffsets.add(stemDefinitions.size());
+			
+			return new ParadigmTable (
+				grammarTypes.toArray(new String[grammarTypes.size()]),
+				toArray(offsets),
+				toArray(stemOffsets),
+				toArray(stemDefinitions),
+				Arrays.copyOf(code, size),
+				strings.toArray(new String[strings.size()])
+			);
+		}
+		
+		private static int[] toArray(List<Integer> list) {
+			return list.stream().mapToInt(Integer::intValue).toArray();
+		}
+		
+		private void add(int... instruction) {
+			if(size + instruction.length > code.length) {
+				code = Arrays.copyOf(code, Math.max(code.length * 2, size + instruction.length));
+			}
+			
+			System.arraycopy(instruction, 0, code, size, instruction.length);
+			size += instruction.length;
+		}
+		
+		private int getStem(String name, String line) {
+			Integer id = stems.get(name);
+			if(id == null) throw invalidLine(line);
+			
+			return id;
+		}
+		
+		private int getString(String token, String line) {
+			if(!isQuoted(token)) throw invalidLine(line);
+			
+			String s = token.substring(1, token.length() - 1);
+			Integer id = stringIds.get(s);
+			
+			if(id == null) {
+				id = strings.size();
+				strings.add(s);
+				stringIds.put(s, id);
+			}
+			
+			return id;
+		}
+		
+		private int getNumber(String token, String line) {
+			try {
+				int n = Integer.parseInt(token);
+				if(n >= 0) return n;
+			} catch(NumberFormatException e) { }
+			
+			throw invalidLine(line);
+		}
+		
+		/**
+		 * Encodes the specified label (see {@link ParadigmTable#encode(int, int)}).
+		 * The BTB tags are registered in {@link BtbTagTable} here, so that
+		 * they aren't looked up when the word forms are generated.
+		 */
+		private int getLabel(String label) {
+			for(int i = 0; i < LABELS.length; i++) {
+				if(LABELS[i].equals(label)) return i;
+			}
+			
+			if(label.indexOf('-') == -1) {
+				String err = i18n.getError("ParadigmTable.unknownLabel", lineNumber, label);
+				throw new IllegalArgumentException(err);
+			}
+			
+			return -BtbTagTable.getInstance().registerTag(label) - 1;
+		}
+		
+		private IllegalArgumentException invalidLine(String line) {
+			String err = i18n.getError("ParadigmTable.invalidLine", lineNumber, line);
+			return new IllegalArgumentException(err);
+		}
+		
+		private static boolean isQuoted(String token) {
+			return token.length() >= 2 && token.charAt(0) == '"';
+		}
+		
+		/**
+		 * Splits the specified line into words and quoted strings
+		 * (the quotes are kept). The comments (from <b>#</b> to the end
+		 * of the line) are skipped.
+		 * @return The tokens or <code>null</code> if a quoted string isn't closed.
+		 */
+		private static List<String> tokenize(String line) {
+			ArrayList<String> tokens = new ArrayList<String>();
+			int i = 0;
+			
+			while(i < line.length()) {
+				char c = line.charAt(i);
+				
+				if(Character.isWhitespace(c)) {
+					i++;
+				} else if(c == '#') {
+					break;
+				} else if(c == '"') {
+					int end = line.indexOf('"', i + 1);
+					if(end == -1) return null;
+					
+					tokens.add(line.substring(i, end + 1));
+					i = end + 1;
+				} else {
+					int end = i;
+					while(end < line.length() && !Character.isWhitespace(line.charAt(end))) end++;
+					
+					tokens.add(line.substring(i, end));
+					i = end;
+				}
+			}
+			
+			return tokens;
+		}
+	}
+}
@@ -0,0 +1,271 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang;
+
+import eu.ideya.lingua.bg.core.BgDictionary;
+import eu.ideya.lingua.bg.core.WordEntry;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A {@link FormIndex} based on a minimal perfect hash function over the
+ * distinct word forms of a dictionary. Each word form is mapped to its own
+ * slot with a single probe, and the entries of a slot are adjacent in a
+ * packed entry array. The hash function is built with the hash and displace
+ * method: the forms are distributed in buckets of about five forms and a
+ * displacement is chosen for each bucket, so that its forms fall in free
+ * slots. Only the displacements are stored (about 6.4 bits per form), since
+ * a looked up form is verified against the word of the first entry in its slot.
+ * This class is thread safe.
+ */
+public final class PerfectHashFormIndex implements FormIndex {
+	/** The average number of forms in a bucket. */
+	private final static int BUCKET_SIZE = 5;
+	
+	/** The maximum number of displacements tried for a bucket before reseeding. */
+	private final static int MAX_DISPLACEMENT = 1 << 24;
+	
+	private final long seed;
+	private final int[] displacements;
+	
+	/** The index in {@link #entries} of the first entry of each slot. */
+	private final int[] slotStart;
+	private final WordEntry[] entries;
+	
+	private PerfectHashFormIndex(long seed, int[] displacements, int[] slotStart, WordEntry[] entries) {
+		this.seed = seed;
+		this.displacements = displacements;
+		this.slotStart = slotStart;
+		this.entries = entries;
+	}
+	
+	/**
+	 * Builds an index of all entries of the specified dictionary.
+	 * The dictionary should not be modified afterwards.
+	 */
+	public static PerfectHashFormIndex build(BgDictionary dict) {
+		ArrayList<WordEntry> list = new ArrayList<WordEntry>();
+		BGLangTools.forEachEntry(dict, list::add);
+		
+		WordEntry[] sorted = list.toArray(new WordEntry[list.size()]);
+		// stable, so the entries of a form remain in ascending order of their IDs
+		Arrays.sort(sorted, (e1, e2) -> e1.word.compareTo(e2.word));
+		
+		// the start of the entries of each distinct form in the sorted array
+		int[] runs = new int[sorted.length + 1];
+		int n = 0;
+		
+		for(int i = 0; i < sorted.length; i++) {
+			if(i == 0 || !sorted[i].word.equals(sorted[i - 1].word)) runs[n++] = i;
+		}
+		
+		runs[n] = sorted.length;
+		
+		String[] forms = new String[n];
+		for(int i = 0; i < n; i++) forms[i] = sorted[runs[i]].word;
+		
+		long seed = 0x2545F4914F6CDD1DL;
+		int[] displacements;
+		
+		while((displacements = findDisplacements(forms, seed)) == null) {
+			seed = mix(seed + 0x9E3779B97F4A7C15L);
+		}
+		
+		// lay out the entries of each form in its slot
+		int[] slotOfForm = new int[n];
+		int[] slotStart = new int[n + 1];
+		
+		for(int i = 0; i < n; i++) {
+			long h = hash(forms[i], seed);
+			int slot = getSlot(h, displacements[getBucket(h, displacements.length)], n);
+			slotOfForm[i] = slot;
+			slotStart[slot + 1] = runs[i + 1] - runs[i];
+		}
+		
+		for(int i = 0; i < n; i++) slotStart[i + 1] += slotStart[i];
+		
+		WordEntry[] entries = new WordEntry[sorted.length];
+		
+		for(int i = 0; i < n; i++) {
+			int len = runs[i + 1] - runs[i];
+			System.arraycopy(sorted, runs[i], entries, slotStart[slotOfForm[i]], len);
+		}
+		
+		return new PerfectHashFormIndex(seed, displacements, slotStart, entries);
+	}
+	
+	/**
+	 * Finds a displacement for each bucket, so that the specified forms
+	 * are mapped to distinct slots.
+	 * @return The displacements or <code>null</code> if the specified
+	 * seed doesn't work.
+	 */
+	private static int[] findDisplacements(String[] forms, long seed) {
+		int n = forms.length;
+		int bucketCount = Math.max(1, (n + BUCKET_SIZE - 1) / BUCKET_SIZE);
+		
+		long[] hashes = new long[n];
+		int[] bucketSize = new int[bucketCount + 1];
+		
+		for(int i = 0; i < n; i++) {
+			hashes[i] = hash(forms[i], seed);
+			bucketSize[getBucket(hashes[i], bucketCount) + 1]++;
+		}
+		
+		// group the hashes by bucket
+		int[] bucketStart = bucketSize.clone();
+		for(int i = 0; i < bucketCount; i++) bucketStart[i + 1] += bucketStart[i];
+		
+		long[] grouped = new long[n];
+		int[] fill = Arrays.copyOf(bucketStart, bucketCount);
+		for(long h : hashes) grouped[fill[getBucket(h, bucketCount)]++] = h;
+		
+		// the largest buckets are placed first, while most slots are free
+		Integer[] order = new Integer[bucketCount];
+		for(int i = 0; i < bucketCount; i++) order[i] = i;
+		Arrays.sort(order, (b1, b2) -> bucketSize[b2 + 1] - bucketSize[b1 + 1]);
+		
+		int[] displacements = new int[bucketCount];
+		boolean[] taken = new boolean[n];
+		int[] slots = new int[64];
+		
+		for(int b : order) {
+			int start = bucketStart[b];
+			int size = bucketStart[b + 1] - start;
+			if(size == 0) break;
+			if(size > slots.length) slots = new int[size];
+			
+			int d = 0;
+			
+			for(;; d++) {
+				if(d == MAX_DISPLACEMENT) return null;
+				
+				boolean ok = true;
+				
+				for(int i = 0; i < size && ok; i++) {
+					int slot = getSlot(grouped[start + i], d, n);
+					if(taken[slot]) ok = false;
+					
+					for(int j = 0; j < i && ok; j++) {
+						if(slots[j] == slot) ok = false;
+					}
+					
+					slots[i] = slot;
+				}
+				
+				if(ok) break;
+			}
+			
+			displacements[b] = d;
+			for(int i = 0; i < size; i++) taken[slots[i]] = true;
+		}
+		
+		return displacements;
+	}
+	
+	@Override
+	public List<WordEntry> findExactMatches(CharSequence form) {
+		int n = slotStart.length - 1;
+		if(n == 0) return Collections.emptyList();
+		
+		long h = hash(form, seed);
+		int slot = getSlot(h, displacements[getBucket(h, displacements.length)], n);
+		int start = slotStart[slot];
+		
+		// the forms, which are not in the index, are also mapped to some slot
+		if(!entries[start].word.contentEquals(form)) return Collections.emptyList();
+		
+		return new EntryList(entries, start, slotStart[slot + 1]);
+	}
+	
+	@Override
+	public int getFormCount() {
+		return slotStart.length - 1;
+	}
+	
+	/**
+	 * Gets the total number of entries in the index.
+	 */
+	public int getEntryCount() {
+		return entries.length;
+	}
+	
+	private static long hash(CharSequence s, long seed) {
+		long h = seed;
+		
+		for(int i = 0; i < s.length(); i++) {
+			h = (h ^ s.charAt(i)) * 0x100000001B3L;
+		}
+		
+		return mix(h ^ s.length());
+	}
+	
+	/** The finalizer of MurmurHash3. */
+	private static long mix(long h) {
+		h ^= h >>> 33;
+		h *= 0xFF51AFD7ED558CCDL;
+		h ^= h >>> 33;
+		h *= 0xC4CEB9FE1A85EC53L;
+		h ^= h >>> 33;
+		return h;
+	}
+	
+	private static int getBucket(long h, int bucketCount) {
+		return (int)(((h >>> 32) * bucketCount) >>> 32);
+	}
+	
+	private static int getSlot(long h, int displacement, int n) {
+		long x = mix(h + displacement * 0x9E3779B97F4A7C15L);
+		return (int)(((x >>> 32) * n) >>> 32);
+	}
+	
+	/**
+	 * A read-only view of the entries of a slot.
+	 */
+	private final static class EntryList extends AbstractList<WordEntry> implements RandomAccess {
+		private final WordEntry[] entries;
+		private final int start, end;
+		
+		EntryList(WordEntry[] entries, int start, int end) {
+			this.entries = entries;
+			this.start = start;
+			this.end = end;
+		}
+		
+		@Override
+		public WordEntry get(int index) {
+			if(index < 0 || index >= end - start) throw new IndexOutOfBoundsException("" + index);
+			return entries[start + index];
+		}
+		
+		@Override
+		public int size() {
+			return end - start;
+		}
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * An input stream, which reads the underlying stream ahead in a separate
+ * thread, so that the work done by the underlying stream (e.g. the
+ * decompression) overlaps with the processing of the read data. The data
+ * is passed between the threads in blocks through a bounded queue.
+ */
+final class ReadAheadInputStream extends InputStream {
+	private final static int BLOCK_SIZE = 256 * 1024;
+	private final static int QUEUE_CAPACITY = 8;
+	
+	/** Marks the end of the underlying stream. */
+	private final static byte[] EOF = new byte[0];
+	
+	private final InputStream in;
+	private final BlockingQueue<byte[]> blocks = new ArrayBlockingQueue<byte[]>(QUEUE_CAPACITY);
+	private final Thread reader;
+	
+	/** The error, which has occurred in the reader thread. */
+	private volatile IOException error = null;
+	
+	private byte[] block = null;
+	private int pos = 0;
+	private boolean closed = false;
+	
+	/**
+	 * Starts reading the specified stream in a new daemon thread.
+	 */
+	ReadAheadInputStream(InputStream in, String threadName) {
+		this.in = in;
+		reader = new Thread(this::readBlocks, threadName);
+		reader.setDaemon(true);
+		reader.start();
+	}
+	
+	private void readBlocks() {
+		try {
+			for(;;) {
+				byte[] buf = new byte[BLOCK_SIZE];
+				int len = 0;
+				int n;
+				
+				while(len < buf.length && (n = in.read(buf, len, buf.length - len)) != -1) {
+					len += n;
+				}
+				
+				if(len > 0) blocks.put(len == buf.length ? buf : Arrays.copyOf(buf, len));
+				if(len < buf.length) break;
+			}
+		} catch(IOException e) {
+			error = e;
+		} catch(RuntimeException e) {
+			error = new IOException(e);
+		} catch(InterruptedException e) {
+			return;
+		}
+		
+		try {
+			blocks.put(EOF);
+		} catch(InterruptedException e) { }
+	}
+	
+	/**
+	 * Makes the next block current.
+	 * @return <code>false</code> if the end of the stream is reached.
+	 * @throws IOException if the underlying stream has failed (on each
+	 * call after the failure, so that a truncated stream never looks
+	 * like a complete one).
+	 */
+	private boolean nextBlock() throws IOException {
+		if(closed) throw new IOException("Stream closed");
+		
+		if(block != EOF) {
+			try {
+				block = blocks.take();
+			} catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException();
+			}
+			
+			pos = 0;
+		}
+		
+		if(block == EOF) {
+			if(error != null) throw error;
+			return false;
+		}
+		
+		return true;
+	}
+	
+	@Override
+	public int read() throws IOException {
+		if((block == null || pos == block.length) && !nextBlock()) return -1;
+		return block[pos++] & 0xff;
+	}
+	
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if(len == 0) return 0;
+		if((block == null || pos == block.length) && !nextBlock()) return -1;
+		
+		int n = Math.min(len, block.length - pos);
+		System.arraycopy(block, pos, b, off, n);
+		pos += n;
+		
+		return n;
+	}
+	
+	@Override
+	public int available() {
+		return block == null || block == EOF ? 0 : block.length - pos;
+	}
+	
+	@Override
+	public void close() throws IOException {
+		if(closed) return;
+		closed = true;
+		
+		reader.interrupt();
+		
+		try {
+			reader.join();
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		
+		in.close();
+	}
+}
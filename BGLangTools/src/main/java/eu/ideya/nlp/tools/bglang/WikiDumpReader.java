@@ -0,0 +1,106 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang;
+
+import java.io.InputStream;
+import java.util.function.BiConsumer;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * A lightweight reader of MediaWiki XML dumps, which passes to a handler
+ * only the pages, whose titles start with a specified prefix. Since the
+ * title of a page precedes its text in the dump, the text of the other
+ * pages is skipped without being materialized as a string.
+ */
+final class WikiDumpReader {
+	private final static XMLInputFactory factory = XMLInputFactory.newInstance();
+	
+	static {
+		factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+	}
+	
+	private final String titlePrefix;
+	
+	/**
+	 * @param titlePrefix The prefix of the titles of the pages to read.
+	 */
+	WikiDumpReader(String titlePrefix) {
+		this.titlePrefix = titlePrefix;
+	}
+	
+	/**
+	 * Reads the specified dump and passes the title and the text
+	 * of each matching page to the specified handler.
+	 */
+	void read(InputStream in, BiConsumer<String, String> handler) throws XMLStreamException {
+		XMLStreamReader reader;
+		
+		synchronized(factory) {
+			reader = factory.createXMLStreamReader(in);
+		}
+		
+		try {
+			String title = null;
+			
+			while(reader.hasNext()) {
+				if(reader.next() != XMLStreamConstants.START_ELEMENT) continue;
+				
+				String name = reader.getLocalName();
+				
+				if(name.equals("page")) {
+					title = null;
+				} else if(name.equals("title")) {
+					title = reader.getElementText();
+				} else if(name.equals("text")) {
+					if(title != null && title.startsWith(titlePrefix)) {
+						handler.accept(title, reader.getElementText());
+					} else {
+						skipElement(reader);
+					}
+				}
+			}
+		} finally {
+			reader.close();
+		}
+	}
+	
+	/**
+	 * Skips the content of the current element,
+	 * without retrieving the text in it.
+	 */
+	private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+		int depth = 1;
+		
+		while(depth > 0) {
+			int event = reader.next();
+			if(event == XMLStreamConstants.START_ELEMENT) depth++;
+			else if(event == XMLStreamConstants.END_ELEMENT) depth--;
+		}
+	}
+}
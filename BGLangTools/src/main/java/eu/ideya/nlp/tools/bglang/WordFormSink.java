@@ -0,0 +1,52 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang;
+
+/**
+ * Receives the word forms generated by {@link BgWordFormGenerator}.
+ * The word forms are passed as plain values, so that they can be stored
+ * directly (for example in a dictionary) without allocating an
+ * intermediate word entry and array for each lemma.
+ */
+public interface WordFormSink {
+	/**
+	 * Called for each generated word form.
+	 * @param word The word form.
+	 * @param lemmaId The ID of the lemma of the word form.
+	 * @param grammLabelUid The grammatical label of the word form.
+	 */
+	void addWordForm(String word, int lemmaId, int grammLabelUid);
+	
+	/**
+	 * Called for each generated word form, which consists of a stem
+	 * and a suffix. The sinks, which don't need all word forms, may
+	 * override this method to avoid building the rejected ones.
+	 * @param stem The stem of the word form.
+	 * @param suffix The suffix of the word form.
+	 * @param lemmaId The ID of the lemma of the word form.
+	 * @param grammLabelUid The grammatical label of the word form.
+	 */
+	default void addWordForm(String stem, String suffix, int lemmaId, int grammLabelUid) {
+		addWordForm(stem.concat(suffix), lemmaId, grammLabelUid);
+	}
+}
@@ -0,0 +1,606 @@
+/*
+ *   BGLemmatizer - Cross-Platform Lemmatizer for Bulgarian
+ *
+ *   Copyright (C) 2014-2015 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang.lem;
+ 
+import eu.ideya.lingua.bg.core.BgDictionary;
+import eu.ideya.lingua.bg.core.WordEntry;
+import eu.ideya.lingua.bg.core.BTBUtils;
+import eu.ideya.nlp.tools.bglang.BtbTagMask;
+import eu.ideya.nlp.tools.bglang.FormFilter;
+import eu.ideya.nlp.tools.bglang.FormIndex;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+ 
+/**
+ * This class is thread safe, so a single instance can be shared by
+ * multiple threads. The statistics are accumulated without locking
+ * and can be obtained at any time with {@link #getStatistics()}.
+ * <p>
+ * The words are looked up in the dictionary passed to the lookup methods
+ * or in the form index of the lemmatizer. If the form index is
+ * self-contained (like {@link eu.ideya.nlp.tools.bglang.MappedDictionary}),
+ * <code>null</code> can be passed instead of the dictionary, so that
+ * no {@link BgDictionary} has to be loaded.
+ */
+public class BGLemmatizer {
+	public final static String version = "0.2";
+	
+	/**
+	 * A snapshot of the statistics of a lemmatizer.
+	 */
+	public static class Statistics {
+		private final long count, missingCount, ambiguityCount;
+		
+		Statistics(long count, long missingCount, long ambiguityCount) {
+			this.count = count;
+			this.missingCount = missingCount;
+			this.ambiguityCount = ambiguityCount;
+		}
+		
+		/** Gets the number of processed tokens. */
+		public long getTokenCount() {
+			return count;
+		}
+		
+		/** Gets the number of tokens, which are not found in the dictionary. */
+		public long getMissingCount() {
+			return missingCount;
+		}
+		
+		/** Gets the number of tokens, which can't be lemmatized unambiguously. */
+		public long getAmbiguityCount() {
+			return ambiguityCount;
+		}
+	}
+	
+	/**
+	 * The lemma of a token and the statistics of its lookup.
+	 */
+	static class Result {
+		String lemma = null;
+		int missingCount = 0;
+		int ambiguityCount = 0;
+	}
+	
+	/**
+	 * The minimum number of distinct tokens per task,
+	 * when a batch is lemmatized in parallel.
+	 */
+	private final static int MIN_TASK_SIZE = 256;
+	
+	private final LongAdder count = new LongAdder();
+	private final LongAdder missingCount = new LongAdder();
+	private final LongAdder ambiguityCount = new LongAdder();
+	
+	private volatile LemmaCache cache = null;
+	private volatile FormIndex formIndex = null;
+	private volatile FormFilter formFilter = null;
+	private volatile SuffixGuesser guesser = null;
+	
+	public BGLemmatizer() {
+		
+	}
+	
+	/**
+	 * Sets the cache of the lemmas of the recently processed tokens
+	 * (<code>null</code> to disable the caching). Note that a cache
+	 * should be used with a single dictionary.
+	 */
+	public void setCache(LemmaCache cache) {
+		this.cache = cache;
+	}
+	
+	public LemmaCache getCache() {
+		return cache;
+	}
+	
+	/**
+	 * Sets the index used to find the entries of the words instead of
+	 * the dictionary (<code>null</code> to use the dictionary). Note that
+	 * the index should be built from the dictionary passed to the lemmatizer
+	 * (if any, see {@link FormIndex#isSelfContained()}).
+	 */
+	public void setFormIndex(FormIndex formIndex) {
+		this.formIndex = formIndex;
+	}
+	
+	public FormIndex getFormIndex() {
+		return formIndex;
+	}
+	
+	/**
+	 * Sets the filter used to reject the words, which aren't in the dictionary,
+	 * before looking them up (<code>null</code> to look up all words). Note that
+	 * the filter should be built from the dictionary passed to the lemmatizer.
+	 */
+	public void setFormFilter(FormFilter formFilter) {
+		this.formFilter = formFilter;
+	}
+	
+	public FormFilter getFormFilter() {
+		return formFilter;
+	}
+	
+	/**
+	 * Sets the guesser of the lemmas of the words, which aren't in the
+	 * dictionary (<code>null</code> to leave them without a lemma).
+	 * Note that the guessed words are still counted as missing.
+	 */
+	public void setGuesser(SuffixGuesser guesser) {
+		this.guesser = guesser;
+	}
+	
+	public SuffixGuesser getGuesser() {
+		return guesser;
+	}
+	
+	public void resetStat() {
+		count.reset();
+		missingCount.reset();
+		ambiguityCount.reset();
+	}
+	
+	/**
+	 * Gets a snapshot of the current statistics. Note that the counters
+	 * are read one by one, so if the lemmatizer is used concurrently,
+	 * the snapshot may not reflect the exact state at a single point in time.
+	 */
+	public Statistics getStatistics() {
+		return new Statistics(count.sum(), missingCount.sum(), ambiguityCount.sum());
+	}
+	
+	public void printStat(String prefix) {
+		Statistics stat = getStatistics();
+		System.out.println(prefix + "Number of tokens: " + stat.getTokenCount());
+		System.out.println(prefix + "Not found: " + stat.getMissingCount());
+		System.out.println(prefix + "Ambiguity count: " + stat.getAmbiguityCount());
+	}
+	
+	public String getLemma(BgDictionary dict, String word, String tag) {
+		return getLemma(dict, word, tag, false);
+	}
+	
+	/**
+	 * Finds the lemma of the specified token.
+	 * @param dict The dictionary or <code>null</code>
+	 * if the form index of this lemmatizer is self-contained.
+	 * @param tag The BTB tag of the token or <code>null</code>.
+	 * @return The lemma or <code>null</code> if the token can't be lemmatized.
+	 */
+	public String getLemma(BgDictionary dict, String word, String tag, boolean log) {
+		checkDictionary(dict);
+		Result result = lookup(dict, word, tag, log);
+		
+		count.increment();
+		if(result.missingCount != 0) missingCount.add(result.missingCount);
+		if(result.ambiguityCount != 0) ambiguityCount.add(result.ambiguityCount);
+		
+		return result.lemma;
+	}
+	
+	/**
+	 * Lemmatizes a batch of tokens.
+	 * @see #getLemmas(BgDictionary, String[], String[], ForkJoinPool)
+	 */
+	public String[] getLemmas(BgDictionary dict, String[] words, String[] tags) {
+		return getLemmas(dict, words, tags, null);
+	}
+	
+	/**
+	 * Lemmatizes a batch of tokens. The repeated (word, tag) pairs in
+	 * the batch are looked up only once, but they are counted in the
+	 * statistics as many times as they occur.
+	 * @param dict The dictionary or <code>null</code>
+	 * if the form index of this lemmatizer is self-contained.
+	 * @param words The words of the tokens.
+	 * @param tags The BTB tags of the tokens (the elements may be <code>null</code>).
+	 * @param pool The pool used to lemmatize large batches in parallel
+	 * or <code>null</code> to lemmatize the batch in the current thread.
+	 * @return An array with the lemmas of the tokens, which contains
+	 * <code>null</code> for the tokens, which can't be lemmatized.
+	 */
+	public String[] getLemmas (
+		BgDictionary dict, String[] words, String[] tags, ForkJoinPool pool
+	) {
+		if(words.length != tags.length) {
+			throw new IllegalArgumentException (
+				"words.length != tags.length: " + words.length + " != " + tags.length
+			);
+		}
+		
+		checkDictionary(dict);
+		
+		HashMap<LemmaCache.Key, Integer> keyIndices = new HashMap<LemmaCache.Key, Integer>();
+		ArrayList<LemmaCache.Key> keys = new ArrayList<LemmaCache.Key>();
+		int[] indices = new int[words.length];
+		
+		for(int i = 0; i < words.length; i++) {
+			LemmaCache.Key key = new LemmaCache.Key(words[i], tags[i]);
+			Integer idx = keyIndices.putIfAbsent(key, keys.size());
+			
+			if(idx == null) {
+				idx = keys.size();
+				keys.add(key);
+			}
+			
+			indices[i] = idx;
+		}
+		
+		Result[] results = new Result[keys.size()];
+		
+		if(pool != null && results.length >= 2 * MIN_TASK_SIZE) {
+			pool.invoke(new LookupTask(dict, keys, results, 0, results.length));
+		} else {
+			for(int i = 0; i < results.length; i++) {
+				LemmaCache.Key key = keys.get(i);
+				results[i] = lookup(dict, key.word, key.tag, false);
+			}
+		}
+		
+		String[] lemmas = new String[words.length];
+		long missing = 0, ambiguity = 0;
+		
+		for(int i = 0; i < lemmas.length; i++) {
+			Result result = results[indices[i]];
+			lemmas[i] = result.lemma;
+			missing += result.missingCount;
+			ambiguity += result.ambiguityCount;
+		}
+		
+		count.add(lemmas.length);
+		if(missing != 0) missingCount.add(missing);
+		if(ambiguity != 0) ambiguityCount.add(ambiguity);
+		
+		return lemmas;
+	}
+	
+	/**
+	 * Looks up the specified distinct tokens of a batch.
+	 */
+	private class LookupTask extends RecursiveAction {
+		private final static long serialVersionUID = 1L;
+		
+		private final BgDictionary dict;
+		private final ArrayList<LemmaCache.Key> keys;
+		private final Result[] results;
+		private final int start, end;
+		
+		LookupTask (
+			BgDictionary dict, ArrayList<LemmaCache.Key> keys,
+			Result[] results, int start, int end
+		) {
+			this.dict = dict;
+			this.keys = keys;
+			this.results = results;
+			this.start = start;
+			this.end = end;
+		}
+		
+		@Override
+		protected void compute() {
+			if(end - start < 2 * MIN_TASK_SIZE) {
+				for(int i = start; i < end; i++) {
+					LemmaCache.Key key = keys.get(i);
+					results[i] = lookup(dict, key.word, key.tag, false);
+				}
+				
+				return;
+			}
+			
+			int mid = (start + end) >>> 1;
+			invokeAll (
+				new LookupTask(dict, keys, results, start, mid),
+				new LookupTask(dict, keys, results, mid, end)
+			);
+		}
+	}
+	
+	/**
+	 * Checks that the lookups don't need the dictionary if it is <code>null</code>.
+	 */
+	private void checkDictionary(BgDictionary dict) {
+		if(dict != null) return;
+		
+		FormIndex index = formIndex;
+		if(index == null || !index.isSelfContained()) {
+			throw new IllegalStateException("A dictionary is required without a self-contained form index");
+		}
+	}
+	
+	/**
+	 * Finds the lemma of a token, without updating the statistics.
+	 */
+	private Result lookup(BgDictionary dict, String word, String tag, boolean log) {
+		// the cache is bypassed when logging, so that the diagnostics are printed
+		LemmaCache c = log ? null : cache;
+		Result result = c == null ? null : c.get(word, tag);
+		
+		if(result == null) {
+			result = new Result();
+			result.lemma = getLemma(dict, word, tag, log, result);
+			if(c != null) c.put(word, tag, result);
+		}
+		
+		return result;
+	}
+	
+	private String getLemma (
+		BgDictionary dict, String word, String tag, boolean log, Result result
+	) {
+		if(BgDictionary.isNumeric(word)) return word;
+		
+		if(BgDictionary.isShortForm(word)) {
+			return word;
+		}
+		
+		String prefix = null;
+		if(word.startsWith("по-") || word.startsWith("По-")) {
+			prefix = "по-";
+			word = word.substring(3);
+		} else if(word.startsWith("най-") || word.startsWith("Най-")) {
+			prefix = "най-";
+			word = word.substring(4);
+		}
+		
+		String lemma = null;
+		int missingCount = result.missingCount;
+		
+		// the filter is bypassed when logging, so that the diagnostics are printed
+		FormFilter filter = formFilter;
+		if(!log && filter != null && !filter.mightContain(word)) {
+			result.missingCount++;
+		} else {
+			lemma = getLemma0(dict, word, tag, false, false, result);
+			
+			if(lemma == null) {
+				lemma = getLemma0(dict, word.toLowerCase(), tag, log, true, result);
+			}
+		}
+		
+		// only the missing words are guessed and not the ambiguous ones
+		SuffixGuesser g = guesser;
+		if(lemma == null && g != null && result.missingCount > missingCount) {
+			lemma = g.guessLemma(word, tag);
+		}
+		
+		if(prefix != null && lemma != null) {
+			return prefix + lemma;
+		}
+		
+		return lemma;
+	}
+	
+	private String getLemma0 (
+		BgDictionary dict, String word, String tag,
+		boolean log, boolean countIfMissing, Result result) {
+		
+		
+		// all analyses of the word are fetched once and
+		// the tag backoff is done over them in memory
+		FormIndex index = formIndex;
+		List<WordEntry> entries =
+			index == null ? dict.findExactMatches(word) : index.findExactMatches(word);
+		
+		//if(log) System.out.println("word: " + word);
+		
+		if(entries.isEmpty()) {
+			if(countIfMissing) result.missingCount++;
+			if(log) {
+				System.err.println("Missing word: " + word);
+				System.err.println("gate tag: " + tag);
+			}
+			return null;
+		}
+		
+		// the tags are compared as masks and the backoff widens the mask
+		long mask = removeNonessentials(tag, BtbTagMask.getMask(tag));
+		
+		WordEntry[] lemmas = findLemmas(dict, index, entries, mask);
+		
+		if(lemmas.length == 0) {
+			lemmas = findLemmas(dict, index, entries, stripTagStage1(tag, mask));
+			
+			if(lemmas.length == 0) {
+				lemmas = findLemmas(dict, index, entries, stripTagStage2(tag, mask));
+			}
+			
+			if(lemmas.length == 1) {
+				return lemmas[0].word;
+			}
+			
+			if(lemmas.length > 1) {
+				String s = getWordIfEquals(lemmas);
+			
+				if(s != null) {
+					return s;
+				}
+				
+				result.ambiguityCount++;
+				if(log) printAmbiguity(dict, word, tag, entries, "2");
+				return null;
+			}
+			
+			lemmas = findLemmas(dict, index, entries, 0);
+			
+			if( lemmas.length == 1) {
+				// TODO: strict lookup
+				/*if(BgGrammarType.getCodeById(lemmas[0].grammLabelUid) > 187) {
+					ann.getFeatures().put(outputFeatureName, lemmas[0].word);
+					return;
+				}*/
+				
+				return lemmas[0].word;
+			}
+			
+			if( lemmas.length > 1) {
+				String s = getWordIfEquals(lemmas);
+			
+				if(s != null) {
+					return s;
+				}
+				
+				result.ambiguityCount++;
+				if(log) printAmbiguity(dict, word, tag, entries, "3");
+				return null;
+			}
+			
+			if(countIfMissing) result.missingCount++;
+			
+			if(log) {
+				System.err.println("missing word: " + word);
+				System.err.println("Wrong tags?:");
+				
+				for(WordEntry we : entries) {
+					System.err.println(we.word + " " + BTBUtils.getTag(we.grammLabelUid));
+					System.err.println("gate tag: " + tag);
+				
+				}
+			
+				System.err.println();
+			}
+			
+			return null;
+		}
+		
+		if(lemmas.length == 1) {
+			return lemmas[0].word;
+		}
+		
+		String s = getWordIfEquals(lemmas);
+			
+		if(s != null) {
+			return s;
+		} else {
+			result.ambiguityCount++;
+			if(log) printAmbiguity(dict, word, tag, entries, "");
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Finds the lemmas of those of the specified entries,
+	 * whose BTB tags match the specified tag mask.
+	 * @param index The index, which has found the entries, or <code>null</code>.
+	 * @param mask The {@link BtbTagMask} to match (0 matches all entries).
+	 */
+	private static WordEntry[] findLemmas (
+		BgDictionary dict, FormIndex index, List<WordEntry> entries, long mask
+	) {
+		ArrayList<WordEntry> lemmas = new ArrayList<WordEntry>(entries.size());
+		
+		for(int i = 0; i < entries.size(); i++) {
+			WordEntry we = entries.get(i);
+			if(!BtbTagMask.matches(BtbTagMask.getMask(we.grammLabelUid), mask)) continue;
+			lemmas.add(getLemmaEntry(dict, index, entries, i));
+		}
+		
+		return lemmas.toArray(new WordEntry[lemmas.size()]);
+	}
+	
+	private static WordEntry getLemmaEntry (
+		BgDictionary dict, FormIndex index, List<WordEntry> entries, int i
+	) {
+		if(index != null) return index.getLemmaEntry(dict, entries, i);
+		
+		WordEntry we = entries.get(i);
+		return we.lemmaId == -1 ? we : dict.getWordEntryById(we.lemmaId);
+	}
+	
+	private void printAmbiguity(BgDictionary dict, String word, String tag, List<WordEntry> words, String sufix) {
+		System.err.println("Ambiguity" + sufix + ": ");
+		System.err.println("gate tag: " + tag);
+		FormIndex index = formIndex;
+		for(int i = 0; i < words.size(); i++) {
+			WordEntry we = words.get(i);
+			//System.err.println(we.toString());
+			System.err.print(we.word + " " + BTBUtils.getTag(we.grammLabelUid));
+			WordEntry l = getLemmaEntry(dict, index, words, i);
+			System.err.println(" lemma: " + l.word + " " + BTBUtils.getTag(l.grammLabelUid));
+		}
+			
+		System.err.println();
+	}
+	
+	private static String getWordIfEquals(WordEntry[] words) {
+		if(words == null || words.length == 0) return null;
+		
+		boolean eq = true;
+			
+		for(int i = 1; i < words.length; i++) {
+			if(!words[i].word.equals(words[0].word)) {
+				eq = false; break;
+			}
+		}
+		
+		if(eq) return words[0].word;
+		
+		return null;
+	}
+	
+	/**
+	 * Makes the transitivity of the verbs unspecified.
+	 */
+	private static long removeNonessentials(String tag, long mask) {
+		if(tag == null) return mask;
+		
+		if(tag.length() > 3 && tag.charAt(0) == 'V') {
+			return BtbTagMask.clear(mask, 3);
+		}
+		
+		return mask;
+	}
+	
+	/**
+	 * Makes the type, the aspect and the transitivity of the verbs unspecified.
+	 */
+	private static long stripTagStage1(String tag, long mask) {
+		if(tag == null) return mask;
+		
+		if(tag.length() > 3 && tag.charAt(0) == 'V') {
+			mask = BtbTagMask.clear(mask, 1);
+			mask = BtbTagMask.clear(mask, 2);
+			return BtbTagMask.clear(mask, 3);
+		}
+		
+		return mask;
+	}
+	
+	/**
+	 * Keeps only the part of speech.
+	 */
+	private static long stripTagStage2(String tag, long mask) {
+		if(tag == null) return mask;
+		
+		if(tag.length() > 0) {
+			return BtbTagMask.prefix(mask, 1);
+		}
+		
+		return mask;
+	}
+}
@@ -0,0 +1,214 @@
+/*
+ *   BGLemmatizer - Cross-Platform Lemmatizer for Bulgarian
+ *
+ *   Copyright (C) 2014-2015 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang.lem;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of the lemmas of recently processed tokens, which is
+ * used by {@link BGLemmatizer} to answer repeated tokens without looking
+ * them up in the dictionary. The tokens, which can't be lemmatized, are
+ * cached too. The cache is split in segments, which are locked
+ * independently, so it can be shared by multiple threads.
+ * <p>
+ * The capacity is divided between the segments, so the cache never holds
+ * more tokens than its capacity. The tokens are distributed between the
+ * segments by hash code and each segment evicts its own entries, so
+ * an entry may be evicted while the other segments still have room.
+ */
+public class LemmaCache {
+	/** The policy used to evict entries when the cache is full. */
+	public enum Eviction {
+		/** Evicts the least recently used entry. */
+		LRU,
+		
+		/** Evicts the oldest entry. */
+		FIFO
+	}
+	
+	/** The maximum number of segments is 2 to the power of this value. */
+	private final static int SEGMENT_BITS = 4;
+	
+	/** A (surface form, BTB tag) pair, whose tag may be <code>null</code>. */
+	final static class Key {
+		final String word;
+		final String tag;
+		final int hash;
+		
+		Key(String word, String tag) {
+			this.word = word;
+			this.tag = tag;
+			hash = 31 * word.hashCode() + (tag == null ? 0 : tag.hashCode());
+		}
+		
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+		
+		@Override
+		public boolean equals(Object o) {
+			if(!(o instanceof Key)) return false;
+			Key k = (Key)o;
+			if(hash != k.hash || !word.equals(k.word)) return false;
+			return tag == null ? k.tag == null : tag.equals(k.tag);
+		}
+	}
+	
+	private final static class Segment extends LinkedHashMap<Key, BGLemmatizer.Result> {
+		private final int capacity;
+		
+		Segment(int capacity, boolean accessOrder) {
+			super(16, 0.75f, accessOrder);
+			this.capacity = capacity;
+		}
+		
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, BGLemmatizer.Result> eldest) {
+			return size() > capacity;
+		}
+	}
+	
+	private final Segment[] segments;
+	
+	/** The shift, which leaves the bits choosing the segment of a key. */
+	private final int segmentShift;
+	
+	private final int capacity;
+	private final Eviction eviction;
+	
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	
+	/**
+	 * Creates a new LRU cache with the specified capacity.
+	 */
+	public LemmaCache(int capacity) {
+		this(capacity, Eviction.LRU);
+	}
+	
+	/**
+	 * Creates a new cache.
+	 * @param capacity The maximum number of cached tokens. The cache has
+	 * fewer segments if the capacity is too small to give each of them a slot.
+	 * @param eviction The policy used to evict entries when the cache is full.
+	 */
+	public LemmaCache(int capacity, Eviction eviction) {
+		if(capacity <= 0) throw new IllegalArgumentException("capacity: " + capacity);
+		
+		this.capacity = capacity;
+		this.eviction = eviction;
+		
+		int bits = Math.min(SEGMENT_BITS, 31 - Integer.numberOfLeadingZeros(capacity));
+		segments = new Segment[1 << bits];
+		segmentShift = 32 - bits;
+		
+		// the remainder of the division is given to the first segments
+		int segmentCapacity = capacity / segments.length;
+		int remainder = capacity % segments.length;
+		
+		for(int i = 0; i < segments.length; i++) {
+			int c = i < remainder ? segmentCapacity + 1 : segmentCapacity;
+			segments[i] = new Segment(c, eviction == Eviction.LRU);
+		}
+	}
+	
+	public int getCapacity() {
+		return capacity;
+	}
+	
+	public Eviction getEviction() {
+		return eviction;
+	}
+	
+	/**
+	 * Gets the number of lookups, which are answered by the cache.
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+	
+	/**
+	 * Gets the number of lookups, which are not answered by the cache.
+	 */
+	public long getMissCount() {
+		return missCount.sum();
+	}
+	
+	/**
+	 * Gets the number of cached tokens.
+	 */
+	public int size() {
+		int size = 0;
+		
+		for(Segment s : segments) {
+			synchronized(s) { size += s.size(); }
+		}
+		
+		return size;
+	}
+	
+	/**
+	 * Removes all cached tokens and resets the hit and miss counters.
+	 */
+	public void clear() {
+		for(Segment s : segments) {
+			synchronized(s) { s.clear(); }
+		}
+		
+		hitCount.reset();
+		missCount.reset();
+	}
+	
+	BGLemmatizer.Result get(String word, String tag) {
+		Key key = new Key(word, tag);
+		Segment s = getSegment(key);
+		BGLemmatizer.Result result;
+		
+		synchronized(s) { result = s.get(key); }
+		
+		if(result == null) missCount.increment();
+		else hitCount.increment();
+		
+		return result;
+	}
+	
+	void put(String word, String tag, BGLemmatizer.Result result) {
+		Key key = new Key(word, tag);
+		Segment s = getSegment(key);
+		
+		synchronized(s) { s.put(key, result); }
+	}
+	
+	/**
+	 * Gets the segment of the specified key. The segment is chosen by the
+	 * high bits of the scrambled hash code, since the low bits choose the
+	 * bucket of the key in the segment.
+	 */
+	private Segment getSegment(Key key) {
+		long h = (key.hash * 0x9E3779B9) & 0xFFFFFFFFL;
+		return segments[(int)(h >>> segmentShift)];
+	}
+}
@@ -0,0 +1,246 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang.lem;
+
+import eu.ideya.lingua.bg.core.BgDictionary;
+import eu.ideya.nlp.tools.bglang.BgTokenizer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Lemmatizes plain text and writes the tokens and their lemmas as
+ * tab-separated values, one token per line. The tokens, which can't be
+ * lemmatized, are written with an empty lemma.
+ * <p>
+ * The work is pipelined: a reader thread splits the input in chunks of text,
+ * which are tokenized and lemmatized by the worker threads, and a writer
+ * thread writes the results in the order of the input. The queues between
+ * the stages are bounded, so the memory usage doesn't depend on the size
+ * of the input.
+ */
+public class LemmatizerPipeline {
+	/** The approximate number of characters in a chunk. */
+	private final static int CHUNK_SIZE = 64 * 1024;
+	
+	private final static class Chunk {
+		final long index;
+		final String text;
+		String output = null;
+		int tokenCount = 0;
+		
+		Chunk(long index, String text) {
+			this.index = index;
+			this.text = text;
+		}
+	}
+	
+	/** Marks the end of the input. */
+	private final static Chunk END = new Chunk(-1, null);
+	
+	private final BgDictionary dict;
+	private final BGLemmatizer lem;
+	private final int workerCount;
+	
+	/**
+	 * Creates a new pipeline.
+	 * @param dict The dictionary used to lemmatize the text or <code>null</code>
+	 * if the form index of the lemmatizer is self-contained.
+	 * @param lem The lemmatizer, which is shared by the workers.
+	 * @param workerCount The number of threads, which tokenize and lemmatize the text.
+	 */
+	public LemmatizerPipeline(BgDictionary dict, BGLemmatizer lem, int workerCount) {
+		if(workerCount < 1) throw new IllegalArgumentException("workerCount: " + workerCount);
+		
+		this.dict = dict;
+		this.lem = lem;
+		this.workerCount = workerCount;
+	}
+	
+	public BGLemmatizer getLemmatizer() {
+		return lem;
+	}
+	
+	public int getWorkerCount() {
+		return workerCount;
+	}
+	
+	/**
+	 * Lemmatizes the text from the specified inputs, which are opened
+	 * and closed one by one, and writes the result in <code>out</code>.
+	 * The output isn't closed, but it's flushed.
+	 * @return The number of the processed tokens.
+	 */
+	public long run(List<Callable<Reader>> inputs, Writer out) throws IOException, InterruptedException {
+		BlockingQueue<Chunk> chunks = new ArrayBlockingQueue<Chunk>(2 * workerCount);
+		BlockingQueue<Chunk> results = new ArrayBlockingQueue<Chunk>(2 * workerCount);
+		
+		// limits the chunks, which are read but not written yet, including
+		// those waiting in the writer for the preceding chunks
+		Semaphore pending = new Semaphore(4 * workerCount);
+		
+		ExecutorService executor = Executors.newFixedThreadPool(workerCount + 2);
+		CompletionService<Long> stages = new ExecutorCompletionService<Long>(executor);
+		
+		try {
+			stages.submit(() -> read(inputs, chunks, pending));
+			
+			for(int i = 0; i < workerCount; i++) {
+				stages.submit(() -> work(chunks, results));
+			}
+			
+			stages.submit(() -> write(results, out, pending));
+			
+			long tokenCount = 0;
+			
+			for(int i = 0; i < workerCount + 2; i++) {
+				try {
+					tokenCount += stages.take().get();
+				} catch(ExecutionException e) {
+					Throwable t = e.getCause();
+					if(t instanceof IOException) throw (IOException)t;
+					if(t instanceof RuntimeException) throw (RuntimeException)t;
+					if(t instanceof Error) throw (Error)t;
+					throw new IOException(t);
+				}
+			}
+			
+			return tokenCount;
+		} finally {
+			// stops the other stages if one of them fails
+			executor.shutdownNow();
+		}
+	}
+	
+	private long read (
+		List<Callable<Reader>> inputs, BlockingQueue<Chunk> chunks, Semaphore pending
+	) throws Exception {
+		char[] buf = new char[CHUNK_SIZE];
+		long index = 0;
+		
+		for(Callable<Reader> input : inputs) {
+			try(Reader in = input.call()) {
+				int len = 0;
+				int n;
+				
+				while((n = in.read(buf, len, buf.length - len)) != -1) {
+					len += n;
+					if(len < buf.length) continue;
+					
+					// the chunks are split on whitespace, so that the tokens remain intact
+					int end = len;
+					while(end > 0 && !Character.isWhitespace(buf[end - 1])) end--;
+					if(end == 0) end = len;
+					
+					pending.acquire();
+					chunks.put(new Chunk(index++, new String(buf, 0, end)));
+					
+					System.arraycopy(buf, end, buf, 0, len - end);
+					len -= end;
+				}
+				
+				if(len > 0) {
+					pending.acquire();
+					chunks.put(new Chunk(index++, new String(buf, 0, len)));
+				}
+			}
+		}
+		
+		for(int i = 0; i < workerCount; i++) chunks.put(END);
+		
+		return 0;
+	}
+	
+	private long work(BlockingQueue<Chunk> chunks, BlockingQueue<Chunk> results) throws Exception {
+		ArrayList<String> tokens = new ArrayList<String>();
+		
+		for(;;) {
+			Chunk chunk = chunks.take();
+			
+			if(chunk == END) {
+				results.put(END);
+				return 0;
+			}
+			
+			tokens.clear();
+			BgTokenizer.tokenize(chunk.text, tokens);
+			
+			String[] words = tokens.toArray(new String[tokens.size()]);
+			String[] lemmas = lem.getLemmas(dict, words, new String[words.length]);
+			
+			StringBuilder sb = new StringBuilder(2 * chunk.text.length());
+			
+			for(int i = 0; i < words.length; i++) {
+				sb.append(words[i]).append('\t');
+				if(lemmas[i] != null) sb.append(lemmas[i]);
+				sb.append('\n');
+			}
+			
+			chunk.output = sb.toString();
+			chunk.tokenCount = words.length;
+			results.put(chunk);
+		}
+	}
+	
+	private long write(BlockingQueue<Chunk> results, Writer out, Semaphore pending) throws Exception {
+		HashMap<Long, Chunk> waiting = new HashMap<Long, Chunk>();
+		long next = 0;
+		long tokenCount = 0;
+		int ended = 0;
+		
+		while(ended < workerCount) {
+			Chunk chunk = results.take();
+			
+			if(chunk == END) {
+				ended++;
+				continue;
+			}
+			
+			waiting.put(chunk.index, chunk);
+			
+			while((chunk = waiting.remove(next)) != null) {
+				out.write(chunk.output);
+				tokenCount += chunk.tokenCount;
+				next++;
+				pending.release();
+			}
+		}
+		
+		out.flush();
+		
+		return tokenCount;
+	}
+}
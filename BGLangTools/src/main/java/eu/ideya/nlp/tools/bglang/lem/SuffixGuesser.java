@@ -0,0 +1,388 @@
+/*
+ *   BGLemmatizer - Cross-Platform Lemmatizer for Bulgarian
+ *
+ *   Copyright (C) 2014-2015 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang.lem;
+
+import eu.ideya.lingua.bg.core.BTBUtils;
+import eu.ideya.lingua.bg.core.BgDictionary;
+import eu.ideya.lingua.bg.core.BgGrammarType;
+import eu.ideya.lingua.bg.core.WordEntry;
+import eu.ideya.nlp.tools.bglang.BGLangTools;
+import eu.ideya.nlp.tools.bglang.BtbTagMask;
+import eu.ideya.nlp.tools.bglang.MappedDictionary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Guesses the lemmas of words, which aren't in the dictionary, by their
+ * endings. The guesser is built from the word forms of a dictionary
+ * (generated by the paradigms of {@link eu.ideya.nlp.tools.bglang.BgWordFormGenerator}
+ * or loaded from resources) and their lemmas: each form is reduced to a rule,
+ * which specifies how many characters to remove from the end of the form and
+ * what to append to get the lemma, and the rules are counted in a trie of the
+ * reversed endings of the forms (up to {@value #MAX_SUFFIX_LENGTH} characters).
+ * A word is guessed by walking its ending in the trie, so the time is
+ * proportional to the length of the ending. The endings are compared
+ * ignoring case. This class is thread safe.
+ */
+public final class SuffixGuesser {
+	/** The maximum length of the endings in the trie. */
+	public final static int MAX_SUFFIX_LENGTH = 6;
+	
+	/** The maximum number of hypotheses kept for each ending. */
+	private final static int MAX_HYPOTHESES = 8;
+	
+	/**
+	 * A possible lemma of a word.
+	 */
+	public final static class Hypothesis {
+		private final String lemma;
+		private final int grammLabelUid;
+		private final int lemmaGrammLabelUid;
+		private final double score;
+		
+		Hypothesis(String lemma, int grammLabelUid, int lemmaGrammLabelUid, double score) {
+			this.lemma = lemma;
+			this.grammLabelUid = grammLabelUid;
+			this.lemmaGrammLabelUid = lemmaGrammLabelUid;
+			this.score = score;
+		}
+		
+		public String getLemma() {
+			return lemma;
+		}
+		
+		/** Gets the grammatical type of the lemma (for example <b>2a</b>). */
+		public String getGrammarType() {
+			return BgGrammarType.getTypeById(lemmaGrammLabelUid);
+		}
+		
+		/** Gets the BTB tag of the word. */
+		public String getTag() {
+			return BTBUtils.getTag(grammLabelUid);
+		}
+		
+		/** Gets the grammatical label of the word. */
+		public int getGrammLabelUid() {
+			return grammLabelUid;
+		}
+		
+		/** Gets the grammatical label of the lemma. */
+		public int getLemmaGrammLabelUid() {
+			return lemmaGrammLabelUid;
+		}
+		
+		/**
+		 * Gets the share of the dictionary forms with the same ending,
+		 * which are inflected by this rule (from 0 to 1).
+		 */
+		public double getScore() {
+			return score;
+		}
+		
+		@Override
+		public String toString() {
+			return lemma + " " + getGrammarType() + " " + getTag() + " " + score;
+		}
+	}
+	
+	/**
+	 * Transforms a word form to its lemma.
+	 */
+	private final static class Rule {
+		final int strip;
+		final String append;
+		final int grammLabelUid;
+		final int lemmaGrammLabelUid;
+		
+		Rule(int strip, String append, int grammLabelUid, int lemmaGrammLabelUid) {
+			this.strip = strip;
+			this.append = append;
+			this.grammLabelUid = grammLabelUid;
+			this.lemmaGrammLabelUid = lemmaGrammLabelUid;
+		}
+		
+		@Override
+		public int hashCode() {
+			int h = 31 * strip + append.hashCode();
+			h = 31 * h + grammLabelUid;
+			return 31 * h + lemmaGrammLabelUid;
+		}
+		
+		@Override
+		public boolean equals(Object o) {
+			if(!(o instanceof Rule)) return false;
+			
+			Rule r = (Rule)o;
+			return r.strip == strip && r.append.equals(append) &&
+				r.grammLabelUid == grammLabelUid && r.lemmaGrammLabelUid == lemmaGrammLabelUid;
+		}
+	}
+	
+	/**
+	 * A node of the trie of the reversed endings. The rules
+	 * are sorted in descending order of their counts.
+	 */
+	private final static class Node {
+		private final static char[] NO_LABELS = new char[0];
+		private final static Node[] NO_CHILDREN = new Node[0];
+		private final static int[] NO_RULES = new int[0];
+		
+		char[] labels = NO_LABELS;
+		Node[] children = NO_CHILDREN;
+		int childCount = 0;
+		
+		int[] rules = NO_RULES;
+		int[] counts = NO_RULES;
+		int ruleCount = 0;
+		int total = 0;
+		
+		Node getChild(char c) {
+			for(int i = 0; i < childCount; i++) {
+				if(labels[i] == c) return children[i];
+			}
+			
+			return null;
+		}
+		
+		Node addChild(char c) {
+			Node child = getChild(c);
+			if(child != null) return child;
+			
+			if(childCount == labels.length) {
+				int capacity = Math.max(2, childCount * 2);
+				labels = Arrays.copyOf(labels, capacity);
+				children = Arrays.copyOf(children, capacity);
+			}
+			
+			child = new Node();
+			labels[childCount] = c;
+			children[childCount++] = child;
+			return child;
+		}
+		
+		void addRule(int rule) {
+			total++;
+			
+			for(int i = 0; i < ruleCount; i++) {
+				if(rules[i] == rule) {
+					counts[i]++;
+					return;
+				}
+			}
+			
+			if(ruleCount == rules.length) {
+				int capacity = Math.max(2, ruleCount * 2);
+				rules = Arrays.copyOf(rules, capacity);
+				counts = Arrays.copyOf(counts, capacity);
+			}
+			
+			rules[ruleCount] = rule;
+			counts[ruleCount++] = 1;
+		}
+		
+		/**
+		 * Sorts the rules of this node and its descendants
+		 * and keeps only the most frequent ones.
+		 * @return The number of nodes.
+		 */
+		int compact() {
+			Integer[] order = new Integer[ruleCount];
+			for(int i = 0; i < ruleCount; i++) order[i] = i;
+			Arrays.sort(order, (i1, i2) -> Integer.compare(counts[i2], counts[i1]));
+			
+			int n = Math.min(ruleCount, MAX_HYPOTHESES);
+			int[] r = new int[n];
+			int[] c = new int[n];
+			
+			for(int i = 0; i < n; i++) {
+				r[i] = rules[order[i]];
+				c[i] = counts[order[i]];
+			}
+			
+			rules = r;
+			counts = c;
+			ruleCount = n;
+			labels = Arrays.copyOf(labels, childCount);
+			children = Arrays.copyOf(children, childCount);
+			
+			int nodeCount = 1;
+			for(int i = 0; i < childCount; i++) nodeCount += children[i].compact();
+			return nodeCount;
+		}
+	}
+	
+	private final Node root;
+	private final Rule[] rules;
+	private final int nodeCount;
+	
+	private SuffixGuesser(Node root, Rule[] rules) {
+		this.root = root;
+		this.rules = rules;
+		this.nodeCount = root.compact();
+	}
+	
+	/**
+	 * Builds a guesser from all entries of the specified dictionary.
+	 */
+	public static SuffixGuesser build(BgDictionary dict) {
+		return build(consumer -> BGLangTools.forEachEntry(dict, consumer), dict::getWordEntryById);
+	}
+	
+	/**
+	 * Builds a guesser from all entries of the specified mapped dictionary.
+	 * Note that all pages of the dictionary file are read.
+	 */
+	public static SuffixGuesser build(MappedDictionary dict) {
+		return build(dict::forEachEntry, dict::getWordEntryById);
+	}
+	
+	/**
+	 * Builds a guesser from the entries of a dictionary.
+	 * @param entries Passes all entries of the dictionary
+	 * to a consumer in ascending order of their IDs.
+	 * @param lemmas Gets the entry with the specified ID.
+	 */
+	private static SuffixGuesser build (
+		Consumer<Consumer<WordEntry>> entries, IntFunction<WordEntry> lemmas
+	) {
+		Node root = new Node();
+		HashMap<Rule, Integer> ruleIds = new HashMap<Rule, Integer>();
+		ArrayList<Rule> rules = new ArrayList<Rule>();
+		
+		entries.accept(we -> {
+			WordEntry lemma = we.lemmaId == -1 ? we : lemmas.apply(we.lemmaId);
+			if(lemma == null) return;
+			
+			String form = we.word;
+			int prefix = 0;
+			int max = Math.min(form.length(), lemma.word.length());
+			while(prefix < max && form.charAt(prefix) == lemma.word.charAt(prefix)) prefix++;
+			
+			int strip = form.length() - prefix;
+			// the ending should include the removed characters and leave a stem
+			if(strip >= form.length() || strip > MAX_SUFFIX_LENGTH) return;
+			
+			Rule rule = new Rule (
+				strip, lemma.word.substring(prefix), we.grammLabelUid, lemma.grammLabelUid
+			);
+			
+			int id = ruleIds.computeIfAbsent(rule, r -> {
+				rules.add(r);
+				return rules.size() - 1;
+			});
+			
+			Node node = root;
+			int n = Math.min(form.length() - 1, MAX_SUFFIX_LENGTH);
+			
+			for(int i = 1; i <= n; i++) {
+				node = node.addChild(Character.toLowerCase(form.charAt(form.length() - i)));
+				if(i >= strip) node.addRule(id);
+			}
+		});
+		
+		return new SuffixGuesser(root, rules.toArray(new Rule[rules.size()]));
+	}
+	
+	/**
+	 * Gets the number of nodes of the trie.
+	 */
+	public int getNodeCount() {
+		return nodeCount;
+	}
+	
+	/**
+	 * Gets the possible lemmas of the specified word
+	 * in descending order of their scores.
+	 */
+	public List<Hypothesis> guess(String word) {
+		return guess(word, null);
+	}
+	
+	/**
+	 * Gets the possible lemmas of the specified word, which match the
+	 * specified BTB tag, in descending order of their scores. The longest
+	 * ending of the word with a matching rule is used.
+	 * @param tag The BTB tag of the word or <code>null</code>.
+	 */
+	public List<Hypothesis> guess(String word, String tag) {
+		long mask = BtbTagMask.getMask(tag);
+		Node[] path = getPath(word);
+		
+		for(int depth = path.length - 1; depth > 0; depth--) {
+			Node node = path[depth];
+			if(node == null) continue;
+			
+			ArrayList<Hypothesis> list = null;
+			
+			for(int i = 0; i < node.ruleCount; i++) {
+				Rule rule = rules[node.rules[i]];
+				if(!BtbTagMask.matches(BtbTagMask.getMask(rule.grammLabelUid), mask)) continue;
+				
+				if(list == null) list = new ArrayList<Hypothesis>(node.ruleCount - i);
+				String lemma = word.substring(0, word.length() - rule.strip) + rule.append;
+				double score = (double)node.counts[i] / node.total;
+				list.add(new Hypothesis(lemma, rule.grammLabelUid, rule.lemmaGrammLabelUid, score));
+			}
+			
+			if(list != null) return list;
+		}
+		
+		return Collections.emptyList();
+	}
+	
+	/**
+	 * Gets the most probable lemma of the specified word, which matches
+	 * the specified BTB tag (<code>null</code> matches all tags).
+	 * @return The lemma or <code>null</code> if it can't be guessed.
+	 */
+	public String guessLemma(String word, String tag) {
+		List<Hypothesis> list = guess(word, tag);
+		return list.isEmpty() ? null : list.get(0).getLemma();
+	}
+	
+	/**
+	 * Gets the nodes of the endings of the specified word, indexed
+	 * by the length of the ending (the whole word is excluded).
+	 */
+	private Node[] getPath(String word) {
+		int n = Math.min(word.length() - 1, MAX_SUFFIX_LENGTH);
+		if(n < 1) return new Node[0];
+		
+		Node[] path = new Node[n + 1];
+		Node node = root;
+		path[0] = root;
+		
+		for(int i = 1; i <= n && node != null; i++) {
+			node = node.getChild(Character.toLowerCase(word.charAt(word.length() - i)));
+			path[i] = node;
+		}
+		
+		return path;
+	}
+}
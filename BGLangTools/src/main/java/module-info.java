@@ -3,6 +3,10 @@ module eu.ideya.nlp.tools.bglang {
 
 	requires eu.ideya.lingua.bg.core;
 	requires eu.ideya.simplicity;
+	requires org.apache.commons.compress;
 
 	requires java.xml;
+
+	exports eu.ideya.nlp.tools.bglang;
+	exports eu.ideya.nlp.tools.bglang.lem;
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang;
+
+import eu.ideya.lingua.bg.core.BgDictionary;
+import eu.ideya.lingua.bg.core.GrammaticalLabel;
+import eu.ideya.lingua.bg.core.WordEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the enumeration of the entries of a dictionary by
+ * {@link BGLangTools#forEachEntry(BgDictionary, java.util.function.Consumer)}.
+ */
+public class BGLangToolsTest {
+	@Test
+	public void testForEachEntry() {
+		BgDictionary dict = new BgDictionary();
+		List<WordEntry> expected = new ArrayList<WordEntry>();
+		
+		// the lemmas are added like BgOfficeScanner adds them
+		WordFormSink sink = (word, lemmaId, uid) -> expected.add(dict.addWord(word, uid, lemmaId));
+		String[][] lemmas = { { "1", "стол" }, { "2", "бряг" }, { "1", "град" } };
+		
+		for(String[] lemma : lemmas) {
+			int uid = GrammaticalLabel.getUidByGrammarType(lemma[0]);
+			WordEntry e = dict.addWord(lemma[1], uid, -1);
+			expected.add(e);
+			BgWordFormGenerator.getInstance().generateWordForms(e, sink);
+		}
+		
+		List<WordEntry> entries = new ArrayList<WordEntry>();
+		BGLangTools.forEachEntry(dict, entries::add);
+		
+		assertEquals(expected.size(), entries.size());
+		for(int i = 0; i < entries.size(); i++) assertEquals(expected.get(i).id, entries.get(i).id);
+		
+		assertEquals(expected.size(), BGLangTools.getEntryCount(dict));
+		assertEquals(0, BGLangTools.getEntryCount(new BgDictionary()));
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pins the one-directional matching of {@link BtbTagMask}, which is used
+ * by the tag backoff of the lemmatizer and by the suffix guesser.
+ */
+public class BtbTagMaskTest {
+	@Test
+	public void testEqualTags() {
+		assertTrue(matches("Ncmsi", "Ncmsi"));
+		assertTrue(matches("Vpitf-r3s", "Vpitf-r3s"));
+		assertFalse(matches("Ncmsi", "Ncfsi"));
+	}
+	
+	@Test
+	public void testUnspecifiedQueryPositions() {
+		assertTrue(matches("Vpitf-r3s", "Vpi-f-r3s"));
+		assertTrue(matches("Vpitf-r3s", "V---f-r3s"));
+		assertTrue(matches("Vpitf-r3s", "Vpitf"));
+		assertTrue(matches("Vpitf-r3s", "V"));
+		assertTrue(matches("Vpitf-r3s", null));
+	}
+	
+	@Test
+	public void testUnspecifiedTagPositions() {
+		assertFalse(matches("Vpi-f-r3s", "Vpitf-r3s"));
+		assertFalse(matches("Vpitf", "Vpitf-r3s"));
+		assertTrue(matches("Vpi-f-r3s", "Vpi-f-r3s"));
+	}
+	
+	@Test
+	public void testOverlongQuery() {
+		String tag = "Vpitf-r3s-xyz";
+		long query = BtbTagMask.getMask(tag);
+		
+		assertFalse(BtbTagMask.matches(BtbTagMask.getMask("Vpitf-r3s"), query));
+		assertFalse(BtbTagMask.matches(BtbTagMask.getMask(tag.substring(0, 12)), query));
+		assertFalse(BtbTagMask.matches(query, query));
+		
+		long pos = BtbTagMask.prefix(query, 1);
+		assertTrue(BtbTagMask.matches(BtbTagMask.getMask("Vpitf-r3s"), pos));
+	}
+	
+	@Test
+	public void testInvalidCharacter() {
+		assertFalse(matches("Ncmsi", "Nc?si"));
+		assertTrue(matches("Ncmsi", "Nc-si"));
+	}
+	
+	private static boolean matches(String tag, String query) {
+		return BtbTagMask.matches(BtbTagMask.getMask(tag), BtbTagMask.getMask(query));
+	}
+}
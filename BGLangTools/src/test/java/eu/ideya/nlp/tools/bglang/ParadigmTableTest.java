@@ -0,0 +1,216 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang;
+
+import eu.ideya.lingua.bg.core.GrammaticalLabel;
+import eu.ideya.lingua.bg.core.WordEntry;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Compares the word forms generated by the paradigms in res/paradigms.dat
+ * with the golden list in paradigms-golden.txt, which was produced
+ * by the former code-based paradigms of {@link BgWordFormGenerator}.
+ */
+public class ParadigmTableTest {
+	private final static String GOLDEN_RESOURCE = "paradigms-golden.txt";
+	
+	/** The word form of a lemma, which doesn't match its paradigm. */
+	private final static String REJECTED = "!";
+	
+	private final static int LEMMA_ID = 42;
+	
+	@Test
+	public void testGeneratedWordForms() throws Exception {
+		int count = 0;
+		
+		for(String[] line : readGolden()) {
+			WordEntry lemma = createLemma(line);
+			Paradigm p = ParadigmRegistry.getInstance().getParadigm(line[0]);
+			assertNotNull(p, line[0]);
+			
+			if(line[2].equals(REJECTED)) {
+				assertThrows(IllegalArgumentException.class, () -> p.generateWordForms(lemma), line[1]);
+				continue;
+			}
+			
+			WordEntry[] forms = p.generateWordForms(lemma);
+			assertEquals(line.length - 2, forms.length, line[1]);
+			
+			for(int i = 0; i < forms.length; i++) {
+				String[] form = line[i + 2].split(" ");
+				String msg = line[0] + " " + line[1] + ": " + line[i + 2];
+				assertEquals(form[0], forms[i].word, msg);
+				assertEquals(getUid(form[1], lemma.grammLabelUid), forms[i].grammLabelUid, msg);
+				assertEquals(LEMMA_ID, forms[i].lemmaId, msg);
+				count++;
+			}
+		}
+		
+		assertFalse(count == 0);
+	}
+	
+	@Test
+	public void testInflect() throws Exception {
+		for(String[] line : readGolden()) {
+			if(line[2].equals(REJECTED)) continue;
+			
+			WordEntry lemma = createLemma(line);
+			List<Integer> uids = new ArrayList<Integer>();
+			
+			for(int i = 2; i < line.length; i++) {
+				String[] form = line[i].split(" ");
+				int uid = getUid(form[1], lemma.grammLabelUid);
+				if(uids.contains(uid)) continue;
+				uids.add(uid);
+				
+				String msg = line[0] + " " + line[1] + ": " + line[i];
+				String word = BgWordFormGenerator.getInstance().inflect(lemma, uid);
+				assertEquals(form[0], word, msg);
+			}
+		}
+	}
+	
+	@Test
+	public void testInflectUnmatched() throws Exception {
+		BgWordFormGenerator generator = BgWordFormGenerator.getInstance();
+		Map<String, String[]> accepted = new HashMap<String, String[]>();
+		int count = 0;
+		
+		for(String[] line : readGolden()) {
+			WordEntry lemma = createLemma(line);
+			assertNull(generator.inflect(lemma, "Vpitf-r3s-xyz"), line[1]);
+			
+			if(!line[2].equals(REJECTED)) {
+				accepted.putIfAbsent(line[0], line);
+				continue;
+			}
+			
+			// the cells, which need a stem the lemma doesn't match, are null
+			Paradigm p = ParadigmRegistry.getInstance().getParadigm(line[0]);
+			String[] labels = accepted.get(line[0]);
+			if(labels == null) continue;
+			
+			for(int i = 2; i < labels.length; i++) {
+				int uid = getUid(labels[i].split(" ")[1], lemma.grammLabelUid);
+				
+				try {
+					p.inflect(lemma, u -> u == uid);
+				} catch(IllegalArgumentException e) {
+					assertNull(generator.inflect(lemma, uid), line[1]);
+					count++;
+				}
+			}
+		}
+		
+		assertFalse(count == 0);
+	}
+	
+	@Test
+	public void testLateStem() {
+		String paradigm = "paradigm 2\n"
+			+ "form s \"а\" SingularDefinite\n"
+			+ "mod = strip s 1\n";
+		
+		InputStream in = new ByteArrayInputStream(paradigm.getBytes(StandardCharsets.UTF_8));
+		assertThrows(IllegalArgumentException.class, () -> ParadigmTable.load(in));
+	}
+	
+	@Test
+	public void testStripTooShort() throws IOException {
+		String paradigm = "paradigm 2\n"
+			+ "mod = strip s 3\n"
+			+ "form mod \"а\" SingularDefinite\n";
+		
+		InputStream in = new ByteArrayInputStream(paradigm.getBytes(StandardCharsets.UTF_8));
+		Paradigm.Generator generator = ParadigmTable.load(in).getGenerator(0);
+		WordEntry lemma = createLemma(new String[] { "2", "ят" });
+		
+		assertThrows (
+			IllegalArgumentException.class,
+			() -> generator.generateWordForms(lemma, (word, lemmaId, grammLabelUid) -> { })
+		);
+		
+		assertThrows (
+			IllegalArgumentException.class,
+			() -> generator.inflect(lemma, uid -> true)
+		);
+	}
+	
+	private static WordEntry createLemma(String[] line) {
+		int uid = GrammaticalLabel.getUidByGrammarType(line[0]);
+		WordEntry lemma = new WordEntry(line[1], -1, uid);
+		lemma.id = LEMMA_ID;
+		return lemma;
+	}
+	
+	/**
+	 * Gets the grammatical label of a word form with the specified
+	 * label from the golden list for a lemma with the specified label.
+	 */
+	private static int getUid(String label, int lemmaUid) throws Exception {
+		if(label.indexOf('-') != -1) {
+			return BtbTagTable.getInstance().getGrammLabelUid(label, lemmaUid);
+		}
+		
+		return (Integer)BgWordFormGenerator.class
+			.getMethod("encode" + label, int.class).invoke(null, lemmaUid);
+	}
+	
+	/**
+	 * Reads the golden list, one array of tab-separated fields per lemma.
+	 */
+	private static List<String[]> readGolden() throws IOException {
+		List<String[]> lines = new ArrayList<String[]>();
+		
+		try(InputStream in = ParadigmTableTest.class.getResourceAsStream(GOLDEN_RESOURCE)) {
+			assertNotNull(in, GOLDEN_RESOURCE);
+			BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+			
+			String line;
+			while((line = reader.readLine()) != null) {
+				if(line.isEmpty() || line.startsWith("#")) continue;
+				lines.add(line.split("\t"));
+			}
+		}
+		
+		return lines;
+	}
+}
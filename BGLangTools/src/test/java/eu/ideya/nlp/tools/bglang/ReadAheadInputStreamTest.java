@@ -0,0 +1,70 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks that a {@link ReadAheadInputStream} keeps reporting
+ * the error of the underlying stream.
+ */
+public class ReadAheadInputStreamTest {
+	/** A stream of the specified length, which fails at its end. */
+	private final static class FailingInputStream extends InputStream {
+		private int remaining;
+		
+		FailingInputStream(int length) {
+			remaining = length;
+		}
+		
+		@Override
+		public int read() throws IOException {
+			if(remaining == 0) throw new IOException("Truncated stream");
+			remaining--;
+			return 'a';
+		}
+	}
+	
+	@Test
+	public void testErrorIsRepeated() throws IOException {
+		int length = 300 * 1024;
+		
+		try(InputStream in = new ReadAheadInputStream(new FailingInputStream(length), "test")) {
+			byte[] buf = new byte[4096];
+			
+			IOException e = assertThrows(IOException.class, () -> {
+				while(in.read(buf, 0, buf.length) != -1);
+			});
+			
+			assertEquals("Truncated stream", e.getMessage());
+			assertThrows(IOException.class, () -> in.read());
+			assertThrows(IOException.class, () -> in.read(buf, 0, buf.length));
+		}
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang.lem;
+
+import eu.ideya.lingua.bg.core.BgDictionary;
+import eu.ideya.lingua.bg.core.GrammaticalLabel;
+import eu.ideya.lingua.bg.core.WordEntry;
+import eu.ideya.nlp.tools.bglang.BgWordFormGenerator;
+import eu.ideya.nlp.tools.bglang.MappedDictionary;
+import eu.ideya.nlp.tools.bglang.PerfectHashFormIndex;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks that the lemmatizer gives the same lemmas with a mapped
+ * dictionary and no {@link BgDictionary} as with the dictionary.
+ */
+public class BGLemmatizerTest {
+	@Test
+	public void testMappedDictionary() throws IOException {
+		BgDictionary dict = new BgDictionary();
+		List<String> words = new ArrayList<String>();
+		String[][] lemmas = { { "1", "стол" }, { "2", "бряг" }, { "1", "град" } };
+		
+		for(String[] lemma : lemmas) {
+			int uid = GrammaticalLabel.getUidByGrammarType(lemma[0]);
+			WordEntry e = dict.addWord(lemma[1], uid, -1);
+			words.add(e.word);
+			
+			BgWordFormGenerator.getInstance().generateWordForms(e, (word, lemmaId, grammLabelUid) -> {
+				dict.addWord(word, grammLabelUid, lemmaId);
+				words.add(word);
+			});
+		}
+		
+		words.add("маса");
+		
+		File file = File.createTempFile("bglangtools-test", ".bin");
+		file.deleteOnExit();
+		MappedDictionary.export(dict, file);
+		
+		BGLemmatizer lem = new BGLemmatizer();
+		lem.setFormIndex(PerfectHashFormIndex.build(dict));
+		String[] w = words.toArray(new String[words.size()]);
+		String[] expected = lem.getLemmas(dict, w, new String[w.length]);
+		
+		BGLemmatizer mappedLem = new BGLemmatizer();
+		mappedLem.setFormIndex(MappedDictionary.open(file));
+		assertArrayEquals(expected, mappedLem.getLemmas(null, w, new String[w.length]));
+		
+		for(int i = 0; i < w.length; i++) {
+			assertEquals(expected[i], mappedLem.getLemma(null, w[i], null), w[i]);
+		}
+	}
+	
+	@Test
+	public void testMissingDictionary() {
+		BGLemmatizer lem = new BGLemmatizer();
+		assertThrows(IllegalStateException.class, () -> lem.getLemma(null, "стол", null));
+	}
+}
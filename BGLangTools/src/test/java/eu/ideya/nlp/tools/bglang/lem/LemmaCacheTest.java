@@ -0,0 +1,64 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang.lem;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that a {@link LemmaCache} never holds more tokens than its capacity.
+ */
+public class LemmaCacheTest {
+	@Test
+	public void testCapacity() {
+		int[] capacities = { 1, 2, 3, 15, 16, 17, 100, 1000 };
+		
+		for(int capacity : capacities) {
+			for(LemmaCache.Eviction eviction : LemmaCache.Eviction.values()) {
+				LemmaCache cache = new LemmaCache(capacity, eviction);
+				
+				for(int i = 0; i < 10 * capacity + 100; i++) {
+					cache.put("word" + i, i % 2 == 0 ? null : "Ncmsi", new BGLemmatizer.Result());
+					assertTrue(cache.size() <= capacity, capacity + " " + eviction);
+				}
+				
+				assertTrue(cache.size() > 0, capacity + " " + eviction);
+			}
+		}
+	}
+	
+	@Test
+	public void testSingleEntry() {
+		LemmaCache cache = new LemmaCache(1);
+		BGLemmatizer.Result result = new BGLemmatizer.Result();
+		
+		cache.put("a", null, result);
+		assertEquals(result, cache.get("a", null));
+		
+		cache.put("b", null, new BGLemmatizer.Result());
+		assertEquals(1, cache.size());
+		assertEquals(null, cache.get("a", null));
+	}
+}
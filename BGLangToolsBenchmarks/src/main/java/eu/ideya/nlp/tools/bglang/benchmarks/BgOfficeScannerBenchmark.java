@@ -0,0 +1,79 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang.benchmarks;
+
+import eu.ideya.lingua.bg.core.BgDictionary;
+import eu.ideya.nlp.tools.bglang.BgOfficeScanner;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link BgOfficeScanner#scan(String, BgDictionary, int)}
+ * on a synthetic BG Office data tree.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BgOfficeScannerBenchmark {
+	@Param({ "1", "4" })
+	public int parallelism;
+	
+	@Param({ "5000" })
+	public int lemmasPerFile;
+	
+	private File bgOfficeDir;
+	
+	@Setup
+	public void setup() throws Exception {
+		bgOfficeDir = SyntheticData.createBgOfficeTree(lemmasPerFile);
+	}
+	
+	@TearDown
+	public void tearDown() {
+		SyntheticData.delete(bgOfficeDir);
+	}
+	
+	@Benchmark
+	public BgDictionary scan() {
+		BgDictionary dict = new BgDictionary();
+		BgOfficeScanner.getInstance().scan(bgOfficeDir.getAbsolutePath(), dict, parallelism);
+		return dict;
+	}
+}
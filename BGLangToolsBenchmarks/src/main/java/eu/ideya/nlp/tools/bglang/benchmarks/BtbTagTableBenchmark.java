@@ -0,0 +1,84 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang.benchmarks;
+
+import eu.ideya.lingua.bg.core.BTBUtils;
+import eu.ideya.lingua.bg.core.GrammaticalLabel;
+import eu.ideya.nlp.tools.bglang.BtbTagTable;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the resolution of the BTB tags of the present tense forms
+ * through {@link BtbTagTable} with building and parsing the tag strings
+ * on each call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BtbTagTableBenchmark {
+	private final static String prefix = "V-i-f-";
+	private final static String[] suffixes = { "r2s", "r3s", "r1p", "r2p", "r3p" };
+	
+	private final BtbTagTable table = BtbTagTable.getInstance();
+	private int[] tagIds;
+	private int uid;
+	
+	@Setup
+	public void setup() {
+		uid = GrammaticalLabel.getUidByGrammarType("145");
+		tagIds = new int[suffixes.length];
+		
+		for(int i = 0; i < suffixes.length; i++) {
+			tagIds[i] = table.registerTag(prefix + suffixes[i]);
+		}
+	}
+	
+	@Benchmark
+	public int parse() {
+		int h = 0;
+		for(String s : suffixes) h += BTBUtils.getGrammLabelUid(prefix + s, uid);
+		return h;
+	}
+	
+	@Benchmark
+	public int table() {
+		int h = 0;
+		for(int id : tagIds) h += table.getGrammLabelUid(id, uid);
+		return h;
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang.benchmarks;
+
+import eu.ideya.lingua.bg.core.BgDictionary;
+import eu.ideya.nlp.tools.bglang.BGLangTools;
+import eu.ideya.nlp.tools.bglang.MappedDictionary;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the loading of the built-in dictionary. Each iteration is
+ * a single cold load, since the loading is done once per application.
+ * The built-in dictionary resources must be present in the library.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(3)
+public class DictionaryLoadBenchmark {
+	@Benchmark
+	public BgDictionary loadBuiltinDictionary() throws Exception {
+		return BGLangTools.loadBuiltinDictionary();
+	}
+	
+	@Benchmark
+	public MappedDictionary openBuiltinMappedDictionary() throws Exception {
+		return BGLangTools.openBuiltinMappedDictionary();
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang.benchmarks;
+
+import eu.ideya.lingua.bg.core.WordEntry;
+import eu.ideya.nlp.tools.bglang.BgWordFormGenerator;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link BgWordFormGenerator#generateWordForms(WordEntry)},
+ * {@link BgWordFormGenerator#inflect(WordEntry, int)} and the transformations of the words, on which the paradigms rely,
+ * for the nouns, the adjectives and the verbs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GeneratorBenchmark {
+	@Param({ "nouns", "adjectives", "verbs" })
+	public String family;
+	
+	private BgWordFormGenerator generator;
+	private WordEntry[] lemmas;
+	
+	/** The grammatical label of the last word form of each lemma. */
+	private int[] targets;
+	
+	private final ParadigmDispatchBenchmark.CountingSink sink
+		= new ParadigmDispatchBenchmark.CountingSink();
+	
+	@Setup
+	public void setup() {
+		generator = BgWordFormGenerator.getInstance();
+		lemmas = SyntheticData.toEntries(SyntheticData.getLemmas(family));
+		targets = new int[lemmas.length];
+		
+		for(int i = 0; i < lemmas.length; i++) {
+			WordEntry[] forms = generator.generateWordForms(lemmas[i]);
+			targets[i] = forms == null || forms.length == 0 ? -1 : forms[forms.length - 1].grammLabelUid;
+		}
+	}
+	
+	/** Generates the word forms of all sample lemmas of the family. */
+	@Benchmark
+	public int sink() {
+		for(WordEntry lemma : lemmas) {
+			generator.generateWordForms(lemma, sink);
+		}
+		
+		return sink.count;
+	}
+	
+	/** The same as {@link #sink()}, but collecting the word forms in arrays. */
+	@Benchmark
+	public int array() {
+		int count = 0;
+		
+		for(WordEntry lemma : lemmas) {
+			WordEntry[] forms = generator.generateWordForms(lemma);
+			if(forms != null) count += forms.length;
+		}
+		
+		return count;
+	}
+	
+	/** Inflects each sample lemma to its last word form. */
+	@Benchmark
+	public int inflect() {
+		int count = 0;
+		
+		for(int i = 0; i < lemmas.length; i++) {
+			if(generator.inflect(lemmas[i], targets[i]) != null) count++;
+		}
+		
+		return count;
+	}
+	
+	/** The same as {@link #inflect()}, but searching the generated array. */
+	@Benchmark
+	public int arraySearch() {
+		int count = 0;
+		
+		for(int i = 0; i < lemmas.length; i++) {
+			WordEntry[] forms = generator.generateWordForms(lemmas[i]);
+			if(forms == null) continue;
+			
+			for(WordEntry we : forms) {
+				if(we.grammLabelUid == targets[i]) {
+					count++;
+					break;
+				}
+			}
+		}
+		
+		return count;
+	}
+	
+	/** A substring replacement, as used by the paradigms with vowel alternation. */
+	@Benchmark
+	public String transformSubstring() {
+		return BgWordFormGenerator.transform("вятър", 4, "ятър", "етр", "", "и");
+	}
+	
+	/** A suffix replacement. */
+	@Benchmark
+	public String transformSuffix() {
+		return BgWordFormGenerator.transform("жена", "а", "и");
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang.benchmarks;
+
+import eu.ideya.lingua.bg.core.BgDictionary;
+import eu.ideya.lingua.bg.core.WordEntry;
+import eu.ideya.nlp.tools.bglang.BgWordFormGenerator;
+import eu.ideya.nlp.tools.bglang.FormAutomaton;
+import eu.ideya.nlp.tools.bglang.MappedDictionary;
+import eu.ideya.nlp.tools.bglang.PerfectHashFormIndex;
+import eu.ideya.nlp.tools.bglang.lem.BGLemmatizer;
+import eu.ideya.nlp.tools.bglang.lem.LemmaCache;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link BGLemmatizer} over a synthetic token stream, whose
+ * word frequencies follow Zipf's law as in natural language text.
+ * The dictionary is built from synthetic lemmas and their word forms.
+ * The reported time is per token.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LemmatizerBenchmark {
+	private final static int TOKEN_COUNT = 100000;
+	
+	@Param({ "5000" })
+	public int lemmaCount;
+	
+	/** The capacity of the lemma cache (0 disables the cache). */
+	@Param({ "0", "10000" })
+	public int cacheSize;
+	
+	/**
+	 * The index used to find the entries: <code>none</code> (the dictionary),
+	 * <code>perfectHash</code> ({@link PerfectHashFormIndex}),
+	 * <code>automaton</code> ({@link FormAutomaton})
+	 * or <code>mapped</code> ({@link MappedDictionary}).
+	 */
+	@Param({ "none", "perfectHash", "automaton", "mapped" })
+	public String formIndex;
+	
+	private BgDictionary dict;
+	private BGLemmatizer lem;
+	private String[] tokens;
+	private String[] tags;
+	
+	@Setup
+	public void setup() throws IOException {
+		dict = new BgDictionary();
+		LinkedHashSet<String> words = new LinkedHashSet<String>();
+		BgWordFormGenerator generator = BgWordFormGenerator.getInstance();
+		
+		for(int i = 0; i < lemmaCount; i++) {
+			WordEntry lemma = dict.addWord(SyntheticData.getLemma(i, -1));
+			words.add(lemma.word);
+			
+			generator.generateWordForms(lemma, (word, lemmaId, uid) -> {
+				dict.addWord(word, uid, lemmaId);
+				words.add(word);
+			});
+		}
+		
+		// the frequency rank of a word doesn't depend on its paradigm
+		ArrayList<String> vocabulary = new ArrayList<String>(words);
+		Collections.shuffle(vocabulary, new Random(42));
+		
+		tokens = SyntheticData.getZipfianTokens(vocabulary, TOKEN_COUNT, 1.0, 7);
+		tags = new String[TOKEN_COUNT];
+		
+		lem = new BGLemmatizer();
+		if(cacheSize > 0) lem.setCache(new LemmaCache(cacheSize));
+		if(formIndex.equals("perfectHash")) lem.setFormIndex(PerfectHashFormIndex.build(dict));
+		else if(formIndex.equals("automaton")) lem.setFormIndex(FormAutomaton.build(dict));
+		else if(formIndex.equals("mapped")) lem.setFormIndex(openMappedDictionary(dict));
+	}
+	
+	private static MappedDictionary openMappedDictionary(BgDictionary dict) throws IOException {
+		File f = File.createTempFile("bglangtools-bench", ".bin");
+		f.deleteOnExit();
+		
+		MappedDictionary.export(dict, f);
+		return MappedDictionary.open(f);
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(TOKEN_COUNT)
+	public int getLemma() {
+		int count = 0;
+		
+		for(String token : tokens) {
+			if(lem.getLemma(dict, token, null) != null) count++;
+		}
+		
+		return count;
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(TOKEN_COUNT)
+	public String[] getLemmas() {
+		return lem.getLemmas(dict, tokens, tags);
+	}
+}
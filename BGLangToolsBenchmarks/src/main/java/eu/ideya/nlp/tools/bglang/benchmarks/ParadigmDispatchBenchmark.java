@@ -0,0 +1,112 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang.benchmarks;
+
+import eu.ideya.lingua.bg.core.GrammaticalLabel;
+import eu.ideya.lingua.bg.core.WordEntry;
+import eu.ideya.nlp.tools.bglang.BgWordFormGenerator;
+import eu.ideya.nlp.tools.bglang.Paradigm;
+import eu.ideya.nlp.tools.bglang.ParadigmRegistry;
+import eu.ideya.nlp.tools.bglang.WordFormSink;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the execution of the table-driven paradigms with and without
+ * the paradigm lookup done by {@link BgWordFormGenerator#generateWordForms(WordEntry)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParadigmDispatchBenchmark {
+	private final static Map<String, String> lemmas = new HashMap<String, String>();
+	
+	static {
+		lemmas.put("1", "град");
+		lemmas.put("7", "студент");
+		lemmas.put("41", "жена");
+		lemmas.put("65", "кафе");
+		lemmas.put("76", "нов");
+		lemmas.put("145", "чета");
+		lemmas.put("160", "грея");
+		lemmas.put("187", "изям");
+	}
+	
+	@Param({ "1", "7", "41", "65", "76", "145", "160", "187" })
+	public String grammarType;
+	
+	private BgWordFormGenerator generator;
+	private Paradigm paradigm;
+	private WordEntry lemma;
+	private final CountingSink sink = new CountingSink();
+	
+	@Setup
+	public void setup() {
+		generator = BgWordFormGenerator.getInstance();
+		paradigm = ParadigmRegistry.getInstance().getParadigm(grammarType);
+		
+		int uid = GrammaticalLabel.getUidByGrammarType(grammarType);
+		lemma = new WordEntry(lemmas.get(grammarType), 0, uid);
+	}
+	
+	@Benchmark
+	public int registry() {
+		generator.generateWordForms(lemma, sink);
+		return sink.count;
+	}
+	
+	@Benchmark
+	public int paradigm() {
+		paradigm.generateWordForms(lemma, sink);
+		return sink.count;
+	}
+	
+	/**
+	 * Consumes the generated word forms without retaining them.
+	 */
+	final static class CountingSink implements WordFormSink {
+		int count;
+		
+		@Override
+		public void addWordForm(String word, int lemmaId, int grammLabelUid) {
+			count += word.length() + grammLabelUid;
+		}
+	}
+}
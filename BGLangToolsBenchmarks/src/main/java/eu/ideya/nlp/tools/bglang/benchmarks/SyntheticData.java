@@ -0,0 +1,167 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang.benchmarks;
+
+import eu.ideya.lingua.bg.core.GrammaticalLabel;
+import eu.ideya.lingua.bg.core.WordEntry;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Synthetic input data shared by the benchmarks.
+ */
+final class SyntheticData {
+	private final static String ABC = "абвгдежзийклмнопрстуфхцчшщъьюя";
+	
+	/** Sample lemmas of some noun types (grammar type, lemma). */
+	final static String[][] NOUNS = {
+		{ "1", "град" }, { "1", "стол" }, { "7", "студент" },
+		{ "41", "жена" }, { "41", "книга" }, { "65", "кафе" }
+	};
+	
+	/** Sample lemmas of some adjective types (grammar type, lemma). */
+	final static String[][] ADJECTIVES = {
+		{ "76", "нов" }, { "76", "стар" }, { "76", "красив" }, { "76", "бърз" }
+	};
+	
+	/** Sample lemmas of some verb types (grammar type, lemma). */
+	final static String[][] VERBS = {
+		{ "145", "чета" }, { "145", "плета" }, { "160", "грея" }, { "187", "изям" }
+	};
+	
+	/** The grammar types used for the synthetic vocabularies. */
+	final static String[] TYPES = { "1", "7", "41", "65", "76", "145" };
+	
+	private SyntheticData() { }
+	
+	static String[][] getLemmas(String family) {
+		switch(family) {
+			case "nouns": return NOUNS;
+			case "adjectives": return ADJECTIVES;
+			case "verbs": return VERBS;
+			default: throw new IllegalArgumentException("Unknown family: " + family);
+		}
+	}
+	
+	static WordEntry[] toEntries(String[][] lemmas) {
+		WordEntry[] entries = new WordEntry[lemmas.length];
+		
+		for(int i = 0; i < lemmas.length; i++) {
+			int uid = GrammaticalLabel.getUidByGrammarType(lemmas[i][0]);
+			entries[i] = new WordEntry(lemmas[i][1], i, uid);
+		}
+		
+		return entries;
+	}
+	
+	/**
+	 * Gets the <code>i</code>-th synthetic stem. The stems are distinct,
+	 * consist of Bulgarian letters only and end with <code>а</code>,
+	 * so they are valid lemmas of all {@link #TYPES}.
+	 */
+	static String getStem(int i) {
+		StringBuilder sb = new StringBuilder("стр");
+		
+		do {
+			sb.append(ABC.charAt(i % ABC.length()));
+			i /= ABC.length();
+		} while(i > 0);
+		
+		return sb.append('а').toString();
+	}
+	
+	/**
+	 * Creates a synthetic lemma of one of the {@link #TYPES}.
+	 */
+	static WordEntry getLemma(int i, int id) {
+		String type = TYPES[i % TYPES.length];
+		return new WordEntry(getStem(i), id, GrammaticalLabel.getUidByGrammarType(type));
+	}
+	
+	/**
+	 * Creates a synthetic BG Office data tree with a data file
+	 * for each of the {@link #TYPES}.
+	 * @param lemmaCount The number of lemmas in each data file.
+	 * @return The root directory of the tree.
+	 */
+	static File createBgOfficeTree(int lemmaCount) throws IOException {
+		File root = Files.createTempDirectory("bgoffice").toFile();
+		File data = new File(root, "data");
+		data.mkdir();
+		
+		for(String type : TYPES) {
+			String name = String.format("bg%03d.dat", Integer.parseInt(type));
+			
+			try(Writer w = new OutputStreamWriter(Files.newOutputStream(new File(data, name).toPath()), "Cp1251")) {
+				w.write("Тип: " + type + "\nОписание\nДуми:\n");
+				
+				for(int i = 0; i < lemmaCount; i++) {
+					w.write(getStem(i));
+					w.write('\n');
+				}
+			}
+		}
+		
+		return root;
+	}
+	
+	static void delete(File f) {
+		File[] files = f.listFiles();
+		if(files != null) for(File file : files) delete(file);
+		f.delete();
+	}
+	
+	/**
+	 * Draws a stream of tokens from the specified vocabulary, which is
+	 * ordered by decreasing frequency, following Zipf's law.
+	 * @param exponent The exponent of the distribution (about 1 for natural language).
+	 */
+	static String[] getZipfianTokens(ArrayList<String> vocabulary, int count, double exponent, long seed) {
+		int n = vocabulary.size();
+		double[] cdf = new double[n];
+		double sum = 0;
+		
+		for(int i = 0; i < n; i++) {
+			sum += 1 / Math.pow(i + 1, exponent);
+			cdf[i] = sum;
+		}
+		
+		Random random = new Random(seed);
+		String[] tokens = new String[count];
+		
+		for(int i = 0; i < count; i++) {
+			int idx = Arrays.binarySearch(cdf, random.nextDouble() * sum);
+			if(idx < 0) idx = -idx - 1;
+			tokens[i] = vocabulary.get(Math.min(idx, n - 1));
+		}
+		
+		return tokens;
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ *   BGLangTools - language tools for processing Bulgarian text
+ *
+ *   Copyright (C) 2014-2024 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package eu.ideya.nlp.tools.bglang.benchmarks;
+
+import eu.ideya.lingua.bg.core.BgDictionary;
+import eu.ideya.lingua.bg.core.GrammaticalLabel;
+import eu.ideya.lingua.bg.core.WordEntry;
+import eu.ideya.nlp.tools.bglang.BgWordFormGenerator;
+import eu.ideya.nlp.tools.bglang.WordFormSink;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the array based word form generation with the
+ * {@link WordFormSink} based one, when the word forms of a batch of lemmas
+ * are added to a dictionary. Run with <code>-prof gc</code> to compare
+ * the allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WordFormSinkBenchmark {
+	private final static String[][] lemmas = {
+		{ "град", "1" }, { "студент", "7" }, { "жена", "41" }, { "кафе", "65" },
+		{ "нов", "76" }, { "чета", "145" }, { "грея", "160" }, { "изям", "187" }
+	};
+	
+	private BgWordFormGenerator generator;
+	private WordEntry[] entries;
+	private BgDictionary dict;
+	
+	@Setup
+	public void setup() {
+		generator = BgWordFormGenerator.getInstance();
+		entries = new WordEntry[lemmas.length];
+		
+		for(int i = 0; i < lemmas.length; i++) {
+			int uid = GrammaticalLabel.getUidByGrammarType(lemmas[i][1]);
+			entries[i] = new WordEntry(lemmas[i][0], i, uid);
+		}
+	}
+	
+	@Setup(Level.Invocation)
+	public void createDictionary() {
+		dict = new BgDictionary();
+	}
+	
+	@Benchmark
+	public BgDictionary array() {
+		for(WordEntry lemma : entries) {
+			WordEntry[] forms = generator.generateWordForms(lemma);
+			for(WordEntry we : forms) dict.addWord(we);
+		}
+		
+		return dict;
+	}
+	
+	@Benchmark
+	public BgDictionary sink() {
+		final BgDictionary d = dict;
+		WordFormSink sink = (word, lemmaId, uid) -> d.addWord(word, uid, lemmaId);
+		
+		for(WordEntry lemma : entries) {
+			generator.generateWordForms(lemma, sink);
+		}
+		
+		return dict;
+	}
+}
@@ -22,8 +22,11 @@
 
 package bg.swu.nlp.tools.bglang.lem;
 
-import static bg.swu.nlp.tools.bglang.BGLangTools.loadBuiltinDictionary;
-import bg.swu.nlp.tools.bglang.BgDictionary;
+import eu.ideya.lingua.bg.core.BgDictionary;
+import eu.ideya.nlp.tools.bglang.BGLangTools;
+import eu.ideya.nlp.tools.bglang.MappedDictionary;
+import eu.ideya.nlp.tools.bglang.lem.BGLemmatizer;
+import eu.ideya.nlp.tools.bglang.lem.LemmaCache;
 import gate.Annotation;
 import gate.AnnotationSet;
 import gate.Resource;
@@ -36,14 +39,25 @@ import gate.creole.metadata.CreoleResource;
 import gate.creole.metadata.Optional;
 import gate.creole.metadata.RunTime;
 
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+
 /**
  *
  */
 @CreoleResource(name = "BGLangTools Lemmatizer", 
                 comment = "Lemmatizer for Bulgarian language") 
 public class BGLemmatizerPR extends AbstractLanguageAnalyser {
+	/** The key of the built-in dictionary in {@link DictionaryCache}. */
+	private final static String BUILTIN_DICTIONARY = "builtin:" + BGLangTools.version;
 	
-	private BgDictionary dict;
+	/**
+	 * The dictionary, which may still be loading in the background
+	 * (<code>null</code> if the built-in mapped dictionary is used).
+	 */
+	private CompletableFuture<BgDictionary> dict;
 	private BGLemmatizer lem = new BGLemmatizer();
  
 	/* 
@@ -52,11 +66,45 @@ public class BGLemmatizerPR extends AbstractLanguageAnalyser {
 	 * initiated using Factory.createResource() method. 
 	 */ 
 	public Resource init() throws ResourceInstantiationException { 
-		try { dict = loadBuiltinDictionary(); }
-		catch(Exception e) { e.printStackTrace(); }
+		if(cacheSize != null && cacheSize > 0) {
+			lem.setCache(new LemmaCache(cacheSize));
+		}
+		
+		try {
+			// the mapped dictionary is queried in place, so nothing is parsed
+			// and only the pages of the looked up words are loaded
+			MappedDictionary mapped = BGLangTools.openBuiltinMappedDictionary();
+			lem.setFormIndex(mapped);
+			return this;
+		} catch(FileNotFoundException e) {
+			// the library is packaged without a mapped dictionary
+		} catch(IOException e) {
+			throw new ResourceInstantiationException(e);
+		}
+		
+		// all instances share the same dictionary, which is loaded in
+		// the background, so that the initialization doesn't wait for it
+		dict = DictionaryCache.getInstance().acquireAsync (
+			BUILTIN_DICTIONARY, () -> BGLangTools.loadBuiltinDictionaryAsync().getFuture()
+		);
 		
 		return this; 
 	} 
+	
+	/* this method is called when the resource is deleted */ 
+	@Override
+	public void cleanup() { 
+		if(dict != null) {
+			// a dictionary, which has failed to load, is not in the cache
+			if(!dict.isCompletedExceptionally()) {
+				DictionaryCache.getInstance().release(BUILTIN_DICTIONARY);
+			}
+			
+			dict = null;
+		}
+		
+		super.cleanup();
+	} 
  
  
 	/* 
@@ -71,17 +119,29 @@ public class BGLemmatizerPR extends AbstractLanguageAnalyser {
                 
 		//lem.resetStat();
 
+		ArrayList<Annotation> anns = new ArrayList<Annotation>(allTokens.size());
+		ArrayList<String> words = new ArrayList<String>(allTokens.size());
+		ArrayList<String> tags = new ArrayList<String>(allTokens.size());
+		
 		for(Annotation ann : allTokens) {
 			String word = Utils.stringFor(document, ann);
 			
 			if(word == null) continue;
 			
-			String lemma = lem.getLemma(dict, word, getBtbTag(ann, word), false);
-			
-			if(lemma != null) {
-				ann.getFeatures().put(outputFeatureName, lemma);
+			anns.add(ann);
+			words.add(word);
+			tags.add(getBtbTag(ann, word));
+		}
+		
+		// the repeated tokens of the document are looked up only once
+		String[] lemmas = lem.getLemmas (
+			getDictionary(), words.toArray(new String[words.size()]), tags.toArray(new String[tags.size()])
+		);
+		
+		for(int i = 0; i < lemmas.length; i++) {
+			if(lemmas[i] != null) {
+				anns.get(i).getFeatures().put(outputFeatureName, lemmas[i]);
 			}
-			
 		}
 		
 		System.out.println("BGLemmatizer: Document: " + document.getName());
@@ -89,6 +149,24 @@ public class BGLemmatizerPR extends AbstractLanguageAnalyser {
 		System.out.println();
 	}
 	
+	/**
+	 * Gets the dictionary, waiting for it to be loaded if necessary.
+	 * @return The dictionary or <code>null</code>
+	 * if the built-in mapped dictionary is used.
+	 */
+	private BgDictionary getDictionary() throws ExecutionException {
+		if(dict == null) return null;
+		
+		try {
+			return dict.get();
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ExecutionException("Interrupted while loading the dictionary", e);
+		} catch(java.util.concurrent.ExecutionException e) {
+			throw new ExecutionException("Unable to load the dictionary", e.getCause());
+		}
+	}
+	
 	private String getBtbTag(Annotation ann, String word) {
 		String tag = null;
 		Object o = ann.getFeatures().get(btbTagFeatureName);
@@ -121,6 +199,21 @@ public class BGLemmatizerPR extends AbstractLanguageAnalyser {
 	 * capitalized in the normal Java Beans style), with the setter 
 	 * annotated with a @CreoleParameter annotation. 
 	 */ 
+	Integer cacheSize = 0; 
+ 
+	public Integer getCacheSize() { 
+		return cacheSize; 
+	} 
+ 
+	@Optional 
+	@CreoleParameter (
+		comment = "The number of recently processed tokens, whose lemmas are cached (0 disables the cache)",
+		defaultValue = "0"
+	) 
+	public void setCacheSize(Integer cacheSize) { 
+		this.cacheSize = cacheSize; 
+	}
+	
 	String inputASName = null; 
  
 	/* get<parameter name with first letter Capital>  */ 
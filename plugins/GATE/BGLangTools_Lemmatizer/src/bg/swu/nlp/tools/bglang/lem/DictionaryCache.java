@@ -0,0 +1,158 @@
+/*
+ *   BGLemmatizer - Cross-Platform Lemmatizer for Bulgarian
+ *
+ *   Copyright (C) 2014-2015 Grigor Iliev <grigor.iliev@swu.bg>
+ *
+ *   This file is part of BGLangTools.
+ *
+ *   BGLangTools is free software; you can redistribute it and/or modify
+ *   it under the terms of the GNU General Public License version 3
+ *   as published by the Free Software Foundation.
+ *
+ *   BGLangTools is distributed in the hope that it will be useful,
+ *   but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *   GNU General Public License for more details.
+ *
+ *   You should have received a copy of the GNU General Public License
+ *   along with BGLangTools; if not, write to the Free Software
+ *   Foundation, Inc., 59 Temple Place, Suite 330, Boston,
+ *   MA  02111-1307  USA
+ */
+
+package bg.swu.nlp.tools.bglang.lem;
+
+import eu.ideya.lingua.bg.core.BgDictionary;
+
+import java.util.HashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * A process-wide cache of dictionaries, which are shared by all
+ * lemmatizer instances (for example when GATE duplicates a pipeline
+ * for several worker threads). Each dictionary is loaded only once,
+ * by the first instance requesting it, while the other instances
+ * wait for the loading to finish. The dictionary is released when the
+ * last instance using it releases it. The shared dictionaries should
+ * not be modified. This class is thread safe.
+ */
+public final class DictionaryCache {
+	private final static DictionaryCache dictionaryCache = new DictionaryCache();
+	
+	private static class Entry {
+		final CompletableFuture<BgDictionary> future = new CompletableFuture<BgDictionary>();
+		int refCount = 0;
+	}
+	
+	private final HashMap<String, Entry> entries = new HashMap<String, Entry>();
+	
+	private DictionaryCache() { }
+	
+	public static DictionaryCache getInstance() {
+		return dictionaryCache;
+	}
+	
+	/**
+	 * Gets the dictionary with the specified key, loading it with the
+	 * specified loader if it is not already loaded. Each call of this
+	 * method should be paired with a call to {@link #release(String)}.
+	 * @param key Identifies the dictionary (for example its resource
+	 * name and version).
+	 * @param loader Used to load the dictionary in the current thread
+	 * if it is not in the cache.
+	 * @throws Exception if the dictionary can't be loaded (in which case
+	 * it should not be released).
+	 */
+	public BgDictionary acquire(String key, Callable<BgDictionary> loader) throws Exception {
+		CompletableFuture<BgDictionary> future = acquireAsync(key, () -> {
+			CompletableFuture<BgDictionary> f = new CompletableFuture<BgDictionary>();
+			
+			try {
+				f.complete(loader.call());
+			} catch(Exception e) {
+				f.completeExceptionally(e);
+			}
+			
+			return f;
+		});
+		
+		try {
+			return future.get();
+		} catch(ExecutionException e) {
+			Throwable cause = e.getCause();
+			if(cause instanceof Exception) throw (Exception)cause;
+			throw (Error)cause;
+		}
+	}
+	
+	/**
+	 * Gets a future of the dictionary with the specified key, starting
+	 * the loading with the specified loader if the dictionary is not
+	 * already loaded or being loaded. Each call of this method should be
+	 * paired with a call to {@link #release(String)}, unless the returned
+	 * future completes exceptionally. If the loading fails, the dictionary
+	 * is removed from the cache, so that the loading can be retried.
+	 * @param key Identifies the dictionary (for example its resource
+	 * name and version).
+	 * @param loader Starts the loading of the dictionary
+	 * if it is not in the cache.
+	 */
+	public CompletableFuture<BgDictionary> acquireAsync (
+		String key, Supplier<CompletableFuture<BgDictionary>> loader
+	) {
+		Entry e;
+		boolean load = false;
+		
+		synchronized(this) {
+			e = entries.get(key);
+			if(e == null) {
+				e = new Entry();
+				entries.put(key, e);
+				load = true;
+			}
+			
+			e.refCount++;
+		}
+		
+		if(load) {
+			final Entry entry = e;
+			CompletableFuture<BgDictionary> f;
+			
+			try {
+				f = loader.get();
+			} catch(RuntimeException | Error ex) {
+				f = new CompletableFuture<BgDictionary>();
+				f.completeExceptionally(ex);
+			}
+			
+			f.whenComplete((dict, ex) -> {
+				if(ex == null) {
+					entry.future.complete(dict);
+					return;
+				}
+				
+				synchronized(this) {
+					if(entries.get(key) == entry) entries.remove(key);
+				}
+				
+				entry.future.completeExceptionally(ex);
+			});
+		}
+		
+		return e.future;
+	}
+	
+	/**
+	 * Releases the dictionary with the specified key. The dictionary
+	 * is removed from the cache when it is released by all its users.
+	 */
+	public synchronized void release(String key) {
+		Entry e = entries.get(key);
+		if(e == null) return;
+		
+		if(--e.refCount <= 0) entries.remove(key);
+	}
+}